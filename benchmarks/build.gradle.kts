@@ -0,0 +1,22 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(projects.shared)
+    // compileOnly in shared, provided by every platform at runtime (CpuManager, NamePool)
+    jmh("com.google.guava:guava:31.1-jre")
+    // Present at runtime on Paper and Velocity, enables MiniMessage format in RGBUtils
+    jmh("net.kyori:adventure-text-minimessage:4.13.0")
+    jmh("net.kyori:adventure-text-serializer-legacy:4.13.0")
+    jmh("net.kyori:adventure-text-serializer-gson:4.13.0")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    // Run a subset using -Pjmh.includes=<regex>
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    humanOutputFile.set(layout.buildDirectory.file("results/jmh/human.txt"))
+}
@@ -0,0 +1,159 @@
+package me.neznamy.tab.benchmarks;
+
+import me.neznamy.tab.shared.GroupManager;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.features.injection.PipelineInjector;
+import me.neznamy.tab.shared.features.nametags.NameTag;
+import me.neznamy.tab.shared.features.redis.RedisSupport;
+import me.neznamy.tab.shared.features.types.TabFeature;
+import me.neznamy.tab.shared.placeholders.UniversalPlaceholderRegistry;
+import me.neznamy.tab.shared.placeholders.expansion.EmptyTabExpansion;
+import me.neznamy.tab.shared.placeholders.expansion.TabExpansion;
+import me.neznamy.tab.shared.platform.Platform;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Platform without any server behind it. It loads the plugin with default configuration
+ * files in a temporary folder, so benchmarks run against the same code paths as a real
+ * server without any packets being sent anywhere.
+ */
+public class BenchmarkPlatform implements Platform {
+
+    /** Instance of the platform, {@code null} if plugin was not loaded yet */
+    @Nullable private static BenchmarkPlatform instance;
+
+    /** Temporary data folder with configuration files */
+    @NotNull private final File dataFolder;
+
+    private BenchmarkPlatform(@NotNull File dataFolder) {
+        this.dataFolder = dataFolder;
+    }
+
+    /**
+     * Loads the plugin if it was not loaded yet and returns platform instance.
+     * Background tasks are cancelled after load to not interfere with measurements.
+     *
+     * @return  Platform the plugin is loaded on
+     */
+    @NotNull
+    public static synchronized BenchmarkPlatform load() {
+        if (instance == null) {
+            try {
+                File folder = Files.createTempDirectory("tab-benchmarks").toFile();
+                folder.deleteOnExit();
+                instance = new BenchmarkPlatform(folder);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to create data folder", e);
+            }
+            TAB.create(instance);
+            if (TAB.getInstance().isPluginDisabled()) {
+                throw new IllegalStateException("Plugin failed to load, see output above");
+            }
+            TAB.getInstance().getCPUManager().cancelAllTasks();
+            Fixtures.registerPlaceholders();
+        }
+        return instance;
+    }
+
+    @Override
+    @NotNull
+    public GroupManager detectPermissionPlugin() {
+        return new GroupManager("Benchmark", Fixtures::getGroup);
+    }
+
+    @Override
+    public void registerUnknownPlaceholder(@NotNull String identifier) {
+        TAB.getInstance().getPlaceholderManager().registerServerPlaceholder(identifier, -1, () -> identifier);
+    }
+
+    @Override
+    public void loadPlayers() {
+        // Players are added by benchmarks which need them
+    }
+
+    @Override
+    public void registerPlaceholders() {
+        new UniversalPlaceholderRegistry().registerPlaceholders(TAB.getInstance().getPlaceholderManager());
+    }
+
+    @Override
+    @Nullable
+    public PipelineInjector createPipelineInjector() {
+        return null;
+    }
+
+    @Override
+    @NotNull
+    public NameTag getUnlimitedNameTags() {
+        return new NameTag();
+    }
+
+    @Override
+    @NotNull
+    public TabExpansion createTabExpansion() {
+        return new EmptyTabExpansion();
+    }
+
+    @Override
+    @Nullable
+    public RedisSupport getRedisSupport() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public TabFeature getPerWorldPlayerList() {
+        return null;
+    }
+
+    @Override
+    public void logInfo(@NotNull TabComponent message) {
+        System.out.println("[TAB] " + message.toRawText());
+    }
+
+    @Override
+    public void logWarn(@NotNull TabComponent message) {
+        System.err.println("[TAB] [WARN] " + message.toRawText());
+    }
+
+    @Override
+    public String getServerVersionInfo() {
+        return "Benchmark";
+    }
+
+    @Override
+    public void registerListener() {
+        // No events to listen to
+    }
+
+    @Override
+    public void registerCommand() {
+        // No command
+    }
+
+    @Override
+    public void startMetrics() {
+        // No metrics
+    }
+
+    @Override
+    public File getDataFolder() {
+        return dataFolder;
+    }
+
+    @Override
+    public boolean isProxy() {
+        return false;
+    }
+
+    @Override
+    public Object convertComponent(@NotNull TabComponent component, boolean modern) {
+        return component.toLegacyText();
+    }
+}
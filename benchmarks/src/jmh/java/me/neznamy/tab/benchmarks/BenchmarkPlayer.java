@@ -0,0 +1,98 @@
+package me.neznamy.tab.benchmarks;
+
+import me.neznamy.tab.shared.ProtocolVersion;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.platform.BossBar;
+import me.neznamy.tab.shared.platform.Scoreboard;
+import me.neznamy.tab.shared.platform.TabList;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Player without any connection. Benchmarks only measure text processing,
+ * so any attempt to send a packet to this player fails.
+ */
+public class BenchmarkPlayer extends TabPlayer {
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   platform
+     *          Benchmark platform
+     * @param   uniqueId
+     *          Player's unique ID, least significant bits contain player's index
+     * @param   name
+     *          Player's name
+     */
+    public BenchmarkPlayer(@NotNull BenchmarkPlatform platform, @NotNull UUID uniqueId, @NotNull String name) {
+        super(platform, uniqueId, uniqueId, name, "N/A", "world", ProtocolVersion.LATEST_KNOWN_VERSION.getNetworkId(), true);
+    }
+
+    @Override
+    @NotNull
+    public Scoreboard<? extends TabPlayer, ?> getScoreboard() {
+        throw new UnsupportedOperationException("Benchmark player has no connection");
+    }
+
+    @Override
+    @NotNull
+    public BossBar getBossBar() {
+        throw new UnsupportedOperationException("Benchmark player has no connection");
+    }
+
+    @Override
+    @NotNull
+    public TabList<?, ?> getTabList() {
+        throw new UnsupportedOperationException("Benchmark player has no connection");
+    }
+
+    @Override
+    public boolean isDisguised() {
+        return false;
+    }
+
+    @Override
+    public boolean hasInvisibilityPotion() {
+        return false;
+    }
+
+    @Override
+    public boolean isVanished() {
+        return false;
+    }
+
+    @Override
+    public int getGamemode() {
+        return 0;
+    }
+
+    @Override
+    public int getPing() {
+        return Fixtures.getIndex(this) % 200;
+    }
+
+    @Override
+    @Nullable
+    public TabList.Skin getSkin() {
+        return null;
+    }
+
+    @Override
+    public void sendMessage(@NotNull TabComponent message) {
+        // No connection
+    }
+
+    @Override
+    public boolean hasPermission(@NotNull String permission) {
+        // Every other player has a permission to cover both branches of permission checks
+        return Fixtures.getIndex(this) % 2 == 0;
+    }
+
+    @Override
+    public BenchmarkPlatform getPlatform() {
+        return (BenchmarkPlatform) platform;
+    }
+}
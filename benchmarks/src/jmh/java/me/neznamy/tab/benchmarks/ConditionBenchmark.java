@@ -0,0 +1,64 @@
+package me.neznamy.tab.benchmarks;
+
+import me.neznamy.tab.shared.placeholders.conditions.Condition;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of condition evaluation, both a simple AND condition
+ * and an OR condition using result of another condition.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionBenchmark {
+
+    /** Amount of players conditions are evaluated for in a single invocation */
+    private static final int PLAYERS = 64;
+
+    private final TabPlayer[] players = new TabPlayer[PLAYERS];
+    private Condition rich;
+    private Condition display;
+
+    /**
+     * Loads the plugin, creates players and evaluates conditions once to
+     * have placeholder values of all players known.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkPlatform.load();
+        for (int i = 0; i < PLAYERS; i++) {
+            players[i] = Fixtures.createPlayer(i);
+        }
+        rich = Condition.getCondition(Fixtures.RICH_CONDITION);
+        display = Condition.getCondition(Fixtures.DISPLAY_CONDITION);
+        for (TabPlayer player : players) {
+            display.getText(player);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLAYERS)
+    public int simple() {
+        int met = 0;
+        for (TabPlayer player : players) {
+            if (rich.isMet(player)) met++;
+        }
+        return met;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLAYERS)
+    public int nested() {
+        int met = 0;
+        for (TabPlayer player : players) {
+            if (display.isMet(player)) met++;
+        }
+        return met;
+    }
+}
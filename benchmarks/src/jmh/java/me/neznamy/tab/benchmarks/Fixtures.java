@@ -0,0 +1,106 @@
+package me.neznamy.tab.benchmarks;
+
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
+import me.neznamy.tab.shared.placeholders.conditions.Condition;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Texts, placeholders and conditions resembling what servers commonly configure,
+ * shared by all benchmarks.
+ */
+public class Fixtures {
+
+    /** Groups players are spread across, in sorting order of default config */
+    public static final String[] GROUPS = {"owner", "admin", "mod", "helper", "builder", "vip", "default"};
+
+    /** Static prefix without placeholders, as in default groups.yml */
+    public static final String STATIC_PREFIX = "&0&l[&a&lOwner&0&l] &a";
+
+    /** Prefix with several placeholders and legacy colors */
+    public static final String PLACEHOLDER_PREFIX = "&8[%bench_rank_color%%group%&8] &7Lvl &e%bench_level% &8| &6$%bench_money% &7%player%";
+
+    /** Gradients and RGB codes in all commonly used formats */
+    public static final String[] RGB_TEXTS = {
+            "<#FF0000>Owner</#FFFF00> &7%player%",
+            "{#00FF00>}&lAdministrator{#0000FF<} &f| &7%bench_level%",
+            "<$#FF55FF>Moderator<$#5555FF> #AAAAAA%player%",
+            "&#FF5555[Helper] &#55FF55%player% {#FFAA00}%bench_money%",
+            "<gradient:#FF0000:#00FF00>MiniMessage</gradient> <#123456>%player%"
+    };
+
+    /** Header-like text with many placeholders, colors and a gradient without placeholders */
+    public static final String HEADER = "<#FFFFFF>&lMy Server</#FFAA00>\n&7Online: &f%online%&7/&f%maxplayers% &8| &7TPS: &f%tps%\n" +
+            "&7Ping: &f%ping%ms &8| &7Memory: &f%memory-used%&7/&f%memory-max%MB\n&7Rank: %bench_rank_color%%group% &8| &7Money: &6$%bench_money%";
+
+    /** Name of condition evaluating a numeric placeholder and a permission */
+    public static final String RICH_CONDITION = "bench-rich";
+
+    /** Name of condition using result of {@link #RICH_CONDITION} */
+    public static final String DISPLAY_CONDITION = "bench-display";
+
+    /**
+     * Registers placeholders and conditions used by fixture texts.
+     */
+    static void registerPlaceholders() {
+        PlaceholderManagerImpl manager = TAB.getInstance().getPlaceholderManager();
+        manager.registerPlayerPlaceholder("%bench_money%", 1000, p -> (getIndex((TabPlayer) p) * 7919) % 100000);
+        manager.registerPlayerPlaceholder("%bench_level%", 1000, p -> getIndex((TabPlayer) p) % 100);
+        manager.registerPlayerPlaceholder("%bench_rank_color%", 1000, p -> "&" + "c6e9ba7".charAt(getIndex((TabPlayer) p) % GROUPS.length));
+        Condition rich = registerCondition(true, RICH_CONDITION, Arrays.asList("%bench_money%>=25000", "permission:tab.vip"), "&6Rich", "&7Poor");
+        Condition display = registerCondition(false, DISPLAY_CONDITION, Arrays.asList("%condition:" + RICH_CONDITION + "%=&6Rich", "%group%=owner", "%bench_level%<10"),
+                "&a%player%", "&7%player%");
+        rich.finishSetup();
+        display.finishSetup();
+    }
+
+    @NotNull
+    private static Condition registerCondition(boolean type, @NotNull String name, @NotNull List<String> lines,
+                                               @NotNull String yes, @NotNull String no) {
+        Condition c = new Condition(type, name, lines, yes, no);
+        TAB.getInstance().getPlaceholderManager().registerPlayerPlaceholder(TabConstants.Placeholder.condition(c.getName()),
+                c.getRefresh(), p -> c.getText((TabPlayer) p));
+        return c;
+    }
+
+    /**
+     * Returns index of a benchmark player, which is stored in its UUID.
+     *
+     * @param   player
+     *          Player to get index of
+     * @return  Index of player
+     */
+    public static int getIndex(@NotNull TabPlayer player) {
+        return (int) player.getUniqueId().getLeastSignificantBits();
+    }
+
+    /**
+     * Returns group of a benchmark player based on its index.
+     *
+     * @param   player
+     *          Player to get group of
+     * @return  Group of player
+     */
+    @NotNull
+    public static String getGroup(@NotNull TabPlayer player) {
+        return GROUPS[getIndex(player) % GROUPS.length];
+    }
+
+    /**
+     * Creates player with given index.
+     *
+     * @param   index
+     *          Index of player, determines name, group and placeholder values
+     * @return  New player
+     */
+    @NotNull
+    public static BenchmarkPlayer createPlayer(int index) {
+        return new BenchmarkPlayer(BenchmarkPlatform.load(), new UUID(0, index), "Player" + index);
+    }
+}
@@ -0,0 +1,69 @@
+package me.neznamy.tab.benchmarks;
+
+import me.neznamy.tab.shared.Property;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link Property} analysis and refreshing. Placeholder values are
+ * already known, so refreshing measures the cost of building the text itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyBenchmark {
+
+    private TabPlayer player;
+    private Property staticPrefix;
+    private Property placeholderPrefix;
+    private Property gradientPrefix;
+    private Property header;
+
+    /**
+     * Loads the plugin and creates properties from fixture texts.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkPlatform.load();
+        player = Fixtures.createPlayer(1);
+        staticPrefix = new Property(null, null, player, Fixtures.STATIC_PREFIX, null);
+        placeholderPrefix = new Property(null, null, player, Fixtures.PLACEHOLDER_PREFIX, null);
+        gradientPrefix = new Property(null, null, player, Fixtures.RGB_TEXTS[0], null);
+        header = new Property(null, null, player, Fixtures.HEADER, null);
+    }
+
+    @Benchmark
+    public boolean updateStatic() {
+        return staticPrefix.update();
+    }
+
+    @Benchmark
+    public boolean updatePlaceholders() {
+        return placeholderPrefix.update();
+    }
+
+    @Benchmark
+    public boolean updateGradient() {
+        return gradientPrefix.update();
+    }
+
+    @Benchmark
+    public boolean updateHeader() {
+        return header.update();
+    }
+
+    @Benchmark
+    public String formatForViewer() {
+        return placeholderPrefix.getFormat(player);
+    }
+
+    @Benchmark
+    public Property analyze() {
+        return new Property(null, null, player, Fixtures.PLACEHOLDER_PREFIX, null);
+    }
+}
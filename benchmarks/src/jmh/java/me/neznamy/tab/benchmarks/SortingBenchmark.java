@@ -0,0 +1,82 @@
+package me.neznamy.tab.benchmarks;
+
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.features.sorting.Sorting;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of team name generation using sorting types from default config
+ * with a given amount of online players, which all need unique team names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortingBenchmark {
+
+    @Param({"500", "2000", "5000"})
+    public int playerCount;
+
+    private TabPlayer[] players;
+    private Sorting sorting;
+    private int next;
+
+    /**
+     * Loads the plugin, adds players and computes their initial team names.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkPlatform.load();
+        sorting = TAB.getInstance().getFeatureManager().getFeature(TabConstants.Feature.SORTING);
+        if (sorting == null) throw new IllegalStateException("Sorting is disabled in config");
+        players = new TabPlayer[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            players[i] = Fixtures.createPlayer(i);
+            TAB.getInstance().addPlayer(players[i]);
+        }
+        for (TabPlayer player : players) {
+            sorting.constructTeamNames(player);
+        }
+    }
+
+    /**
+     * Removes added players so next parameter value starts with an empty server.
+     */
+    @TearDown
+    public void tearDown() {
+        for (TabPlayer player : players) {
+            TAB.getInstance().removePlayer(player);
+        }
+    }
+
+    /**
+     * Team name of a single player, such as on join or group change.
+     *
+     * @return  New team name
+     */
+    @Benchmark
+    public String singlePlayer() {
+        TabPlayer player = players[next++ % players.length];
+        sorting.constructTeamNames(player);
+        return player.sortingData.shortTeamName;
+    }
+
+    /**
+     * Team names of all players, such as on plugin load.
+     *
+     * @return  Team name of last player
+     */
+    @Benchmark
+    public String allPlayers() {
+        for (TabPlayer player : players) {
+            sorting.constructTeamNames(player);
+        }
+        return players[players.length - 1].sortingData.shortTeamName;
+    }
+}
@@ -0,0 +1,73 @@
+package me.neznamy.tab.benchmarks;
+
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.chat.rgb.RGBUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of color processing applied to every text before it is sent to players.
+ * Inputs are fixture texts with placeholders already replaced, as they are at that point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextBenchmark {
+
+    /** Index of text in {@link Fixtures#RGB_TEXTS}, -1 for {@link Fixtures#HEADER} */
+    @Param({"-1", "0", "1", "2", "3", "4"})
+    public int text;
+
+    /** Raw text with & color codes */
+    private String raw;
+
+    /** Text with & color codes translated */
+    private String colored;
+
+    /** Text with all RGB formats and gradients converted to #RRGGBB */
+    private String formatted;
+
+    /**
+     * Prepares inputs of each step from selected fixture text.
+     */
+    @Setup
+    public void setup() {
+        String text = this.text == -1 ? Fixtures.HEADER : Fixtures.RGB_TEXTS[this.text];
+        raw = text.replace("%player%", "Player123").replace("%bench_level%", "42").replace("%bench_money%", "13370")
+                .replace("%bench_rank_color%", "&c").replace("%group%", "owner").replace("%online%", "57")
+                .replace("%maxplayers%", "100").replace("%tps%", "20.0").replace("%ping%", "35")
+                .replace("%memory-used%", "2048").replace("%memory-max%", "4096");
+        colored = EnumChatFormat.color(raw);
+        formatted = RGBUtils.getInstance().applyFormats(colored);
+    }
+
+    @Benchmark
+    public String color() {
+        return EnumChatFormat.color(raw);
+    }
+
+    @Benchmark
+    public String applyFormats() {
+        return RGBUtils.getInstance().applyFormats(colored);
+    }
+
+    @Benchmark
+    public String convertRGBtoLegacy() {
+        return RGBUtils.getInstance().convertRGBtoLegacy(formatted);
+    }
+
+    @Benchmark
+    public TabComponent fromColoredText() {
+        return TabComponent.fromColoredText(formatted);
+    }
+
+    @Benchmark
+    public TabComponent fullPipeline() {
+        return TabComponent.fromColoredText(RGBUtils.getInstance().applyFormats(EnumChatFormat.color(raw)));
+    }
+}
@@ -279,7 +279,8 @@ public class BukkitPlatform implements BackendPlatform {
     @NotNull
     public GroupManager detectPermissionPlugin() {
         if (LuckPermsHook.getInstance().isInstalled()) {
-            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction());
+            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction(),
+                    LuckPermsHook.getInstance()::subscribeGroupChanges);
         }
         if (Bukkit.getPluginManager().isPluginEnabled("Vault")) {
             RegisteredServiceProvider<Permission> provider = Bukkit.getServicesManager().getRegistration(Permission.class);
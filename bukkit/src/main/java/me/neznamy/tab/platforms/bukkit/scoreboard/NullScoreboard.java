@@ -74,4 +74,9 @@ public class NullScoreboard extends Scoreboard<BukkitTabPlayer, Object> {
                                int options, @NonNull EnumChatFormat color) {
         // Do nothing
     }
+
+    @Override
+    protected void changeTeamMember0(@NonNull String name, int action, @NonNull String member) {
+        // Do nothing
+    }
 }
@@ -174,6 +174,16 @@ public class PacketScoreboard extends Scoreboard<BukkitTabPlayer, Object> {
         packetSender.sendPacket(player.getPlayer(), teamPacketData.unregisterTeam(teams.remove(name)));
     }
 
+    @Override
+    public boolean supportsTeamMemberChanges() {
+        return true;
+    }
+
+    @Override
+    protected void changeTeamMember0(@NonNull String name, int action, @NonNull String member) {
+        packetSender.sendPacket(player.getPlayer(), teamPacketData.changeTeamMember(teams.get(name), action, member));
+    }
+
     @Override
     public void updateTeam0(@NonNull String name, @NonNull String prefix, @NonNull String suffix,
                             @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
@@ -193,6 +203,13 @@ public class PacketScoreboard extends Scoreboard<BukkitTabPlayer, Object> {
         packetSender.sendPacket(player.getPlayer(), scorePacketData.removeScore(objective, scoreHolder));
     }
 
+    @Override
+    public boolean isHandledPacket(@NonNull Class<?> packetClass) {
+        return displayPacketData.getDisplayObjectiveClass().isAssignableFrom(packetClass) ||
+                ObjectivePacketClass.isAssignableFrom(packetClass) ||
+                teamPacketData.getTeamPacketClass().isAssignableFrom(packetClass);
+    }
+
     @Override
     @SneakyThrows
     public void onPacketSend(@NonNull Object packet) {
@@ -207,6 +207,26 @@ public class TeamPacketData {
         }
     }
 
+    /**
+     * Creates packet adding or removing a team member. The packet is created as
+     * unregister packet, which contains no team data, and then converted.
+     *
+     * @param   team
+     *          Team to change member of
+     * @param   action
+     *          Team action, either add or remove player
+     * @param   member
+     *          Member to add or remove
+     * @return  Packet changing team member
+     */
+    @SneakyThrows
+    public Object changeTeamMember(@NonNull Object team, int action, @NonNull String member) {
+        Object packet = unregisterTeam(team);
+        TeamPacket_ACTION.setInt(packet, action);
+        TeamPacket_PLAYERS.set(packet, Collections.singletonList(member));
+        return packet;
+    }
+
     /**
      * Creates team update packet with specified parameters.
      *
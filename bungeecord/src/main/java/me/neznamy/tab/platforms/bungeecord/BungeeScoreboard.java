@@ -100,6 +100,19 @@ public class BungeeScoreboard extends Scoreboard<BungeeTabPlayer, BaseComponent>
         player.sendPacket(new Team(name));
     }
 
+    @Override
+    public boolean supportsTeamMemberChanges() {
+        return true;
+    }
+
+    @Override
+    protected void changeTeamMember0(@NonNull String name, int action, @NonNull String member) {
+        Team team = new Team(name);
+        team.setMode((byte) action);
+        team.setPlayers(new String[]{member});
+        player.sendPacket(team);
+    }
+
     @Override
     public void updateTeam0(@NonNull String name, @NonNull String prefix, @NonNull String suffix,
                             @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
@@ -148,6 +161,11 @@ public class BungeeScoreboard extends Scoreboard<BungeeTabPlayer, BaseComponent>
         }
     }
 
+    @Override
+    public boolean isHandledPacket(@NonNull Class<?> packetClass) {
+        return packetClass == ScoreboardDisplay.class || packetClass == ScoreboardObjective.class || packetClass == Team.class;
+    }
+
     @Override
     public void onPacketSend(@NonNull Object packet) {
         if (packet instanceof ScoreboardDisplay) {
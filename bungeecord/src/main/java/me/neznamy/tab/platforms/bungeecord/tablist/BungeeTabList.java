@@ -115,6 +115,11 @@ public abstract class BungeeTabList extends TabList<BungeeTabPlayer, BaseCompone
         uuids.remove(id);
     }
 
+    @Override
+    public boolean isHandledPacket(@NonNull Class<?> packetClass) {
+        return packetClass == PlayerListItem.class || packetClass == PlayerListItemUpdate.class;
+    }
+
     @Override
     public void onPacketSend(@NonNull Object packet) {
         if (packet instanceof PlayerListItem) {
@@ -27,6 +27,7 @@ import net.minecraft.world.scores.criteria.ObjectiveCriteria.RenderType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -172,6 +173,23 @@ public class FabricMultiVersion {
         return loader1_14_4.updateTeam(team);
     }
 
+    /**
+     * Creates packet adding or removing a member of given team.
+     *
+     * @param   team
+     *          Team to change member of
+     * @param   action
+     *          Team action, either add or remove player
+     * @param   member
+     *          Member to add or remove
+     * @return  Team member change packet
+     */
+    @NotNull
+    public static Packet<?> changeTeamMember(@NotNull PlayerTeam team, int action, @NotNull String member) {
+        if (serverVersion.getMinorVersion() >= 17) return loaderNew.changeTeamMember(team, action, member);
+        return loader1_14_4.changeTeamMember(team, action, member);
+    }
+
     /**
      * Returns destroyed entities from destroy entity packet.
      *
@@ -345,19 +363,19 @@ public class FabricMultiVersion {
     }
 
     /**
-     * Creates tablist entry packet using given parameters.
+     * Creates tablist entry packet containing all given entries.
      *
      * @param   action
      *          Tablist action
-     * @param   builder
-     *          Entry data
+     * @param   entries
+     *          Data of entries
      * @return  Tablist entry packet with given parameters
      */
     @NotNull
-    public static Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull FabricTabList.Builder builder) {
-        if (serverVersion.getNetworkId() >= ProtocolVersion.V1_19_3.getNetworkId()) return loaderNew.buildTabListPacket(action, builder);
-        else if (serverVersion.getMinorVersion() >= 17) return loader1_18_2.buildTabListPacket(action, builder);
-        return loader1_14_4.buildTabListPacket(action, builder);
+    public static Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull Collection<FabricTabList.Builder> entries) {
+        if (serverVersion.getNetworkId() >= ProtocolVersion.V1_19_3.getNetworkId()) return loaderNew.buildTabListPacket(action, entries);
+        else if (serverVersion.getMinorVersion() >= 17) return loader1_18_2.buildTabListPacket(action, entries);
+        return loader1_14_4.buildTabListPacket(action, entries);
     }
 
     /**
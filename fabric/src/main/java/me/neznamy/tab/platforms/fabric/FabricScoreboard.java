@@ -10,6 +10,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket;
 import net.minecraft.network.protocol.game.ClientboundSetObjectivePacket;
+import net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket;
 import net.minecraft.world.scores.Objective;
 import net.minecraft.world.scores.PlayerTeam;
 import net.minecraft.world.scores.Team;
@@ -107,6 +108,16 @@ public class FabricScoreboard extends Scoreboard<FabricTabPlayer, Component> {
         player.sendPacket(FabricMultiVersion.updateTeam(team));
     }
 
+    @Override
+    public boolean supportsTeamMemberChanges() {
+        return true;
+    }
+
+    @Override
+    public void changeTeamMember0(@NonNull String name, int action, @NonNull String member) {
+        player.sendPacket(FabricMultiVersion.changeTeamMember(new PlayerTeam(dummyScoreboard, name), action, member));
+    }
+
     @Override
     public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
                           @Nullable Component displayName, @Nullable Component numberFormat) {
@@ -118,6 +129,12 @@ public class FabricScoreboard extends Scoreboard<FabricTabPlayer, Component> {
         player.sendPacket(FabricMultiVersion.removeScore(objective, scoreHolder));
     }
 
+    @Override
+    public boolean isHandledPacket(@NonNull Class<?> packetClass) {
+        return packetClass == ClientboundSetDisplayObjectivePacket.class || packetClass == ClientboundSetObjectivePacket.class ||
+                packetClass == ClientboundSetPlayerTeamPacket.class;
+    }
+
     @Override
     public void onPacketSend(@NonNull Object packet) {
         if (packet instanceof ClientboundSetDisplayObjectivePacket display) {
@@ -26,6 +26,7 @@ import net.minecraft.world.scores.criteria.ObjectiveCriteria.RenderType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -121,6 +122,20 @@ public interface Loader {
     @NotNull
     Packet<?> updateTeam(@NotNull PlayerTeam team);
 
+    /**
+     * Creates packet adding or removing a member of given team.
+     *
+     * @param   team
+     *          Team to change member of
+     * @param   action
+     *          Team action, either add or remove player
+     * @param   member
+     *          Member to add or remove
+     * @return  Team member change packet
+     */
+    @NotNull
+    Packet<?> changeTeamMember(@NotNull PlayerTeam team, int action, @NotNull String member);
+
     /**
      * Returns {@code true} if player is sneaking, {@code false} if not.
      *
@@ -240,16 +255,16 @@ public interface Loader {
     void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet);
 
     /**
-     * Creates tablist entry packet using given parameters.
+     * Creates tablist entry packet containing all given entries.
      *
      * @param   action
      *          Tablist action
-     * @param   builder
-     *          Entry data
+     * @param   entries
+     *          Data of entries
      * @return  Tablist entry packet with given parameters
      */
     @NotNull
-    Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull FabricTabList.Builder builder);
+    Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull Collection<FabricTabList.Builder> entries);
 
     /**
      * Returns {@code true} if packet is bundle packet, {@code false} if not.
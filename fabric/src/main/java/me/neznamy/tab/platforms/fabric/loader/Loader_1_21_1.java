@@ -122,6 +122,13 @@ public class Loader_1_21_1 implements Loader {
         return ClientboundSetPlayerTeamPacket.createAddOrModifyPacket(team, false);
     }
 
+    @Override
+    @NotNull
+    public Packet<?> changeTeamMember(@NotNull PlayerTeam team, int action, @NotNull String member) {
+        return ClientboundSetPlayerTeamPacket.createPlayerPacket(team, member, action == Scoreboard.TeamAction.ADD_PLAYER ?
+                ClientboundSetPlayerTeamPacket.Action.ADD : ClientboundSetPlayerTeamPacket.Action.REMOVE);
+    }
+
     @Override
     public boolean isSneaking(@NotNull ServerPlayer player) {
         return player.isCrouching();
@@ -207,20 +214,28 @@ public class Loader_1_21_1 implements Loader {
 
     @Override
     @NotNull
-    public Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull FabricTabList.Builder entry) {
+    public Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull Collection<FabricTabList.Builder> entries) {
         if (action == TabList.Action.REMOVE_PLAYER) {
-            return new ClientboundPlayerInfoRemovePacket(Collections.singletonList(entry.getId()));
+            List<UUID> ids = new ArrayList<>(entries.size());
+            for (FabricTabList.Builder entry : entries) {
+                ids.add(entry.getId());
+            }
+            return new ClientboundPlayerInfoRemovePacket(ids);
         }
         ClientboundPlayerInfoUpdatePacket packet = new ClientboundPlayerInfoUpdatePacket(Register1_19_3.actionMap.get(action), Collections.emptyList());
-        packet.entries = Collections.singletonList(new ClientboundPlayerInfoUpdatePacket.Entry(
-                entry.getId(),
-                action == TabList.Action.ADD_PLAYER ? entry.createProfile() : null,
-                entry.isListed(),
-                entry.getLatency(),
-                GameType.byId(entry.getGameMode()),
-                entry.getDisplayName(),
-                null
-        ));
+        List<ClientboundPlayerInfoUpdatePacket.Entry> list = new ArrayList<>(entries.size());
+        for (FabricTabList.Builder entry : entries) {
+            list.add(new ClientboundPlayerInfoUpdatePacket.Entry(
+                    entry.getId(),
+                    action == TabList.Action.ADD_PLAYER ? entry.createProfile() : null,
+                    entry.isListed(),
+                    entry.getLatency(),
+                    GameType.byId(entry.getGameMode()),
+                    entry.getDisplayName(),
+                    null
+            ));
+        }
+        packet.entries = list;
         return packet;
     }
 
@@ -116,6 +116,12 @@ public class Loader_1_14_4 implements Loader {
         return new ClientboundSetPlayerTeamPacket(team, 2);
     }
 
+    @Override
+    @NotNull
+    public Packet<?> changeTeamMember(@NotNull PlayerTeam team, int action, @NotNull String member) {
+        return new ClientboundSetPlayerTeamPacket(team, Collections.singletonList(member), action);
+    }
+
     @Override
     public boolean isSneaking(@NotNull ServerPlayer player) {
         return player.isSneaking();
@@ -213,10 +219,13 @@ public class Loader_1_14_4 implements Loader {
     @Override
     @NotNull
     @SneakyThrows
-    public Packet<?> buildTabListPacket(TabList.@NotNull Action action, @NotNull FabricTabList.Builder entry) {
+    public Packet<?> buildTabListPacket(TabList.@NotNull Action action, @NotNull Collection<FabricTabList.Builder> entries) {
         ClientboundPlayerInfoPacket packet = new ClientboundPlayerInfoPacket(ClientboundPlayerInfoPacket.Action.valueOf(action.name()));
-        ReflectionUtils.getFields(ClientboundPlayerInfoPacket.class, List.class).get(0).set(packet, Collections.singletonList(
-                packet.new PlayerUpdate(entry.createProfile(), entry.getLatency(), GameType.byId(entry.getGameMode()), entry.getDisplayName())));
+        List<PlayerUpdate> updates = new ArrayList<>(entries.size());
+        for (FabricTabList.Builder entry : entries) {
+            updates.add(packet.new PlayerUpdate(entry.createProfile(), entry.getLatency(), GameType.byId(entry.getGameMode()), entry.getDisplayName()));
+        }
+        ReflectionUtils.getFields(ClientboundPlayerInfoPacket.class, List.class).get(0).set(packet, updates);
         return packet;
     }
 
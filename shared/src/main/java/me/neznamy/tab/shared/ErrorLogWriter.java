@@ -0,0 +1,351 @@
+package me.neznamy.tab.shared;
+
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.TabComponent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background writer for log files. Threads reporting an error only insert
+ * an entry into a bounded lock-free queue, which is then drained by
+ * a dedicated thread that keeps the files open, collapses repeated
+ * messages, rate limits bursts and rotates files once they reach
+ * {@link TabConstants#MAX_LOG_SIZE}.
+ * <p>
+ * The thread is started on demand and stops on its own after being idle
+ * for a while, closing all files, so it does not outlive the plugin.
+ * It can also be stopped right away using {@link #close()}, which waits
+ * until all queued entries are written.
+ */
+class ErrorLogWriter {
+
+    /** Maximum amount of entries waiting to be written, entries above this limit are dropped */
+    private static final int MAX_QUEUE_SIZE = 1000;
+
+    /** Maximum amount of entries written into a single file per second */
+    private static final int MAX_ENTRIES_PER_SECOND = 20;
+
+    /** Time in milliseconds during which identical messages are collapsed into a single one with a count */
+    private static final long DEDUPLICATION_WINDOW = TimeUnit.MINUTES.toMillis(1);
+
+    /** Time in milliseconds after which an idle writer thread closes files and stops */
+    private static final long IDLE_TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+    /** Date format used in error messages, only accessed from writer thread */
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("dd.MM.yyyy - HH:mm:ss - ");
+
+    /** Entries waiting to be written */
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+
+    /** Amount of entries in {@link #queue}, tracked separately as queue's size() is not constant time */
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    /** Amount of entries dropped due to full queue since last report */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** Flag tracking whether writer thread is currently running */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /** Writer thread, {@code null} if not running */
+    @Nullable private volatile Thread thread;
+
+    /** Flag telling writer thread to stop as soon as the queue is empty instead of waiting */
+    private volatile boolean closeRequested;
+
+    /** Files rotated since last check by {@link #pollRotated(File)} */
+    private final Set<File> rotated = ConcurrentHashMap.newKeySet();
+
+    /** Opened files, only accessed from writer thread */
+    private final Map<File, LogFile> files = new HashMap<>();
+
+    /**
+     * Inserts an entry into the queue and starts writer thread if it is not running.
+     * If the queue is full, entry is dropped and counted instead.
+     *
+     * @param   file
+     *          File to write to
+     * @param   message
+     *          Message to write, may be {@code null}
+     * @param   lines
+     *          Additional lines to write (such as stack trace)
+     */
+    public void write(@NotNull File file, @Nullable String message, @NotNull List<String> lines) {
+        if (queueSize.incrementAndGet() > MAX_QUEUE_SIZE) {
+            queueSize.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.add(new Entry(file, System.currentTimeMillis(), message, lines));
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+        } else {
+            startThread();
+        }
+    }
+
+    /**
+     * Writes all queued entries, closes all files and stops writer thread,
+     * waiting for at most given time. Writer thread is started again
+     * if another entry is inserted afterwards.
+     *
+     * @param   timeout
+     *          Maximum time to wait in milliseconds
+     */
+    public void close(long timeout) {
+        Thread t = thread;
+        if (t == null || t == Thread.currentThread()) return;
+        closeRequested = true;
+        try {
+            LockSupport.unpark(t);
+            t.join(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeRequested = false;
+        }
+    }
+
+    /**
+     * Returns {@code true} if given file was rotated since last call
+     * of this method, {@code false} if not.
+     *
+     * @param   file
+     *          Log file
+     * @return  {@code true} if file was rotated since last check, {@code false} if not
+     */
+    public boolean pollRotated(@NotNull File file) {
+        return rotated.remove(file);
+    }
+
+    /**
+     * Returns file the given log is moved to when rotated.
+     *
+     * @param   file
+     *          Log file
+     * @return  File previous content of log file is moved to on rotation
+     */
+    @NotNull
+    public static File getRotatedFile(@NotNull File file) {
+        return new File(file.getParentFile(), file.getName() + ".1");
+    }
+
+    private void startThread() {
+        if (!running.compareAndSet(false, true)) return;
+        Thread t = new Thread(this::run, "TAB Error Logging Thread");
+        t.setDaemon(true);
+        thread = t;
+        t.start();
+    }
+
+    private void run() {
+        while (true) {
+            long idleSince = System.currentTimeMillis();
+            while (queue.isEmpty() && !closeRequested && System.currentTimeMillis() - idleSince < IDLE_TIMEOUT) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT));
+            }
+            if (queue.isEmpty()) {
+                closeAll();
+                thread = null;
+                running.set(false);
+                // Entry may have been inserted after last check, but before thread was marked as stopped
+                if (queue.isEmpty() || !running.compareAndSet(false, true)) return;
+                thread = Thread.currentThread();
+            }
+            drain();
+        }
+    }
+
+    private void drain() {
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            getFile(entry.file).write(entry);
+        }
+        long droppedCount = dropped.getAndSet(0);
+        for (LogFile file : files.values()) {
+            if (droppedCount > 0) {
+                file.writeLine(System.currentTimeMillis(), "[TAB v" + TabConstants.PLUGIN_VERSION + "] " +
+                        droppedCount + " message(s) were not logged due to too many errors at once");
+            }
+            file.flush();
+        }
+    }
+
+    private void closeAll() {
+        for (LogFile file : files.values()) {
+            file.flushRepeated(System.currentTimeMillis());
+            file.flushSuppressed(System.currentTimeMillis());
+            file.close();
+        }
+        files.clear();
+    }
+
+    @NotNull
+    private LogFile getFile(@NotNull File file) {
+        return files.computeIfAbsent(file, LogFile::new);
+    }
+
+    /**
+     * Reports writer's own I/O failure into console.
+     *
+     * @param   file
+     *          File that failed
+     * @param   e
+     *          Thrown exception
+     */
+    private void reportFailure(@NotNull File file, @NotNull IOException e) {
+        TAB.getInstance().getPlatform().logWarn(TabComponent.fromColoredText(
+                "An error occurred when printing error message into file " + file.getName() + ": " + e.getClass().getName() + ": " + e.getMessage()));
+    }
+
+    /**
+     * Single queued log entry.
+     */
+    private static class Entry {
+
+        @NotNull private final File file;
+        private final long time;
+        @Nullable private final String message;
+        @NotNull private final List<String> lines;
+
+        private Entry(@NotNull File file, long time, @Nullable String message, @NotNull List<String> lines) {
+            this.file = file;
+            this.time = time;
+            this.message = message;
+            this.lines = lines;
+        }
+
+        private boolean isRepeatOf(@Nullable Entry other) {
+            return other != null && time - other.time < DEDUPLICATION_WINDOW &&
+                    Objects.equals(message, other.message) && lines.equals(other.lines);
+        }
+    }
+
+    /**
+     * An opened log file with its de-duplication and rate limiting state.
+     */
+    private class LogFile {
+
+        @NotNull private final File file;
+        @Nullable private OutputStream output;
+
+        /** Size of the file in bytes */
+        private long size;
+
+        /** Last written entry for collapsing identical messages */
+        @Nullable private Entry lastEntry;
+
+        /** Amount of times {@link #lastEntry} was repeated without being written */
+        private int repeated;
+
+        /** Start of current rate limiting window */
+        private long windowStart;
+
+        /** Amount of entries written in current rate limiting window */
+        private int windowCount;
+
+        /** Amount of entries suppressed in current rate limiting window */
+        private int suppressed;
+
+        private LogFile(@NotNull File file) {
+            this.file = file;
+        }
+
+        private void write(@NotNull Entry entry) {
+            if (entry.isRepeatOf(lastEntry)) {
+                repeated++;
+                return;
+            }
+            flushRepeated(entry.time);
+            if (entry.time - windowStart >= 1000) {
+                flushSuppressed(entry.time);
+                windowStart = entry.time;
+                windowCount = 0;
+            }
+            if (windowCount++ >= MAX_ENTRIES_PER_SECOND) {
+                suppressed++;
+                return;
+            }
+            lastEntry = entry;
+            if (entry.message != null) {
+                writeLine(entry.time, "[TAB v" + TabConstants.PLUGIN_VERSION + "] " + EnumChatFormat.decolor(entry.message));
+            }
+            for (String line : entry.lines) {
+                writeLine(entry.time, line);
+            }
+        }
+
+        private void flushRepeated(long time) {
+            if (repeated == 0) return;
+            writeLine(time, "[TAB v" + TabConstants.PLUGIN_VERSION + "] Previous message was repeated " + repeated + " more time(s)");
+            repeated = 0;
+        }
+
+        private void flushSuppressed(long time) {
+            if (suppressed == 0) return;
+            writeLine(time, "[TAB v" + TabConstants.PLUGIN_VERSION + "] " + suppressed + " message(s) were not logged due to rate limit");
+            suppressed = 0;
+        }
+
+        private void writeLine(long time, @NotNull String line) {
+            byte[] bytes = (dateFormat.format(new Date(time)) + line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+            try {
+                if (output == null) open();
+                if (size + bytes.length > TabConstants.MAX_LOG_SIZE) rotate();
+                output.write(bytes);
+                size += bytes.length;
+            } catch (IOException e) {
+                reportFailure(file, e);
+                close();
+            }
+        }
+
+        private void open() throws IOException {
+            if (!file.exists()) Files.createFile(file.toPath());
+            size = file.length();
+            output = new BufferedOutputStream(new FileOutputStream(file, true));
+        }
+
+        private void rotate() throws IOException {
+            close();
+            Files.move(file.toPath(), getRotatedFile(file).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            rotated.add(file);
+            open();
+        }
+
+        private void flush() {
+            if (output == null) return;
+            try {
+                output.flush();
+            } catch (IOException e) {
+                reportFailure(file, e);
+                close();
+            }
+        }
+
+        private void close() {
+            if (output == null) return;
+            try {
+                output.close();
+            } catch (IOException e) {
+                reportFailure(file, e);
+            }
+            output = null;
+        }
+    }
+}
@@ -2,19 +2,14 @@ package me.neznamy.tab.shared;
 
 import lombok.Getter;
 import me.neznamy.tab.api.event.TabEvent;
-import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An error assistant to print internal errors into error file
@@ -23,8 +18,8 @@ import java.util.*;
 
 public class ErrorManager {
 
-    /** Date format used in error messages */
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("dd.MM.yyyy - HH:mm:ss - ");
+    /** Asynchronous writer writing messages into files */
+    private final ErrorLogWriter logWriter = new ErrorLogWriter();
 
     /** errors.log file for internal plugin errors */
     @Getter private final File errorLog;
@@ -99,7 +94,9 @@ public class ErrorManager {
     }
 
     /**
-     * Prints error message and stack trace into specified file
+     * Prints error message and stack trace into specified file. The file
+     * itself is written asynchronously, so calling this method never blocks
+     * on file I/O.
      *
      * @param   message
      *          message to print
@@ -110,35 +107,48 @@ public class ErrorManager {
      * @param   file
      *          file to print error to
      */
-    public synchronized void printError(@Nullable String message, @NotNull List<String> error, boolean intoConsoleToo, @NotNull File file) {
-        try {
-            if (!file.exists()) Files.createFile(file.toPath());
-            try (BufferedWriter buf = new BufferedWriter(new FileWriter(file, true))) {
-                if (message != null) {
-                    if (file.length() < TabConstants.MAX_LOG_SIZE)
-                        buf.write(dateFormat.format(new Date()) + "[TAB v" + TabConstants.PLUGIN_VERSION + "] " + EnumChatFormat.decolor(message) + System.lineSeparator());
-                    if (intoConsoleToo || TAB.getInstance().getConfiguration().isDebugMode())
-                        TAB.getInstance().getPlatform().logWarn(TabComponent.fromColoredText(message));
-                }
-                for (String line : error) {
-                    if (file.length() < TabConstants.MAX_LOG_SIZE)
-                        buf.write(dateFormat.format(new Date()) + line + System.lineSeparator());
-                    if (intoConsoleToo || TAB.getInstance().getConfiguration().isDebugMode())
-                        TAB.getInstance().getPlatform().logWarn(TabComponent.fromColoredText(line));
-                }
-            }
-        } catch (IOException ex) {
-            List<String> lines = new ArrayList<>();
-            lines.add("An error occurred when printing error message into file");
-            lines.addAll(throwableToList(ex, false));
-            lines.add("Original error: " + message);
-            lines.addAll(error);
-            for (String line : lines) {
+    public void printError(@Nullable String message, @NotNull List<String> error, boolean intoConsoleToo, @NotNull File file) {
+        logWriter.write(file, message, error);
+        if (intoConsoleToo || TAB.getInstance().getConfiguration().isDebugMode()) {
+            if (message != null) TAB.getInstance().getPlatform().logWarn(TabComponent.fromColoredText(message));
+            for (String line : error) {
                 TAB.getInstance().getPlatform().logWarn(TabComponent.fromColoredText(line));
             }
         }
     }
 
+    /**
+     * Returns file the given log file is moved to once it reaches its size limit.
+     *
+     * @param   file
+     *          Log file
+     * @return  File containing previous content of the log file
+     */
+    @NotNull
+    public File getRotatedFile(@NotNull File file) {
+        return ErrorLogWriter.getRotatedFile(file);
+    }
+
+    /**
+     * Returns {@code true} if given log file reached its size limit and was
+     * rotated since last call of this method, {@code false} if not.
+     *
+     * @param   file
+     *          Log file
+     * @return  {@code true} if file was rotated since last check, {@code false} if not
+     */
+    public boolean pollRotated(@NotNull File file) {
+        return logWriter.pollRotated(file);
+    }
+
+    /**
+     * Writes all pending messages into files and closes them, waiting
+     * for at most a few seconds if there are too many messages.
+     */
+    public void close() {
+        logWriter.close(TimeUnit.SECONDS.toMillis(5));
+    }
+
     @NotNull
     private Throwable getRootCause(@NotNull Throwable throwable) {
         Throwable rootCause = throwable;
@@ -172,6 +182,18 @@ public class ErrorManager {
         printError(message, t, false, placeholderErrorLog);
     }
 
+    /**
+     * Prints message about placeholder exceeding its refresh time budget into placeholder-errors.log file
+     *
+     * @param   message
+     *          message to print
+     * @param   intoConsoleToo
+     *          if the message should be printed into console as well or not
+     */
+    public void placeholderBudgetExceeded(@NotNull String message, boolean intoConsoleToo) {
+        printError(message, Collections.emptyList(), intoConsoleToo, placeholderErrorLog);
+    }
+
     /**
      * Prints error message and stack trace into errors.log file as well as the console
      *
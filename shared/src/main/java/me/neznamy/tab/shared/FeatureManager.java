@@ -1,11 +1,16 @@
 package me.neznamy.tab.shared;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
+import lombok.Getter;
 import me.neznamy.tab.api.placeholder.PlayerPlaceholder;
 import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.config.ConfigDiff;
 import me.neznamy.tab.shared.config.Configs;
+import me.neznamy.tab.shared.config.file.ConfigurationFile;
 import me.neznamy.tab.shared.config.mysql.MySQLUserConfiguration;
+import me.neznamy.tab.shared.cpu.StartupReport;
 import me.neznamy.tab.shared.features.*;
 import me.neznamy.tab.shared.features.GlobalPlayerList;
 import me.neznamy.tab.shared.features.injection.PipelineInjector;
@@ -48,16 +53,56 @@ public class FeatureManager {
     /** Commands features listen to */
     private final List<String> listeningCommands = new ArrayList<>();
 
+    /** Registered global playerlist feature, cached for per-server property lookups */
+    @Getter
+    @Nullable
+    private GlobalPlayerList globalPlayerList;
+
+    /**
+     * Features which do not depend on any other feature and no other feature depends on them,
+     * allowing them to be reloaded on their own. Key is config section, value is feature name.
+     */
+    private final Map<String, String> reloadableFeatures = new LinkedHashMap<>();
+
+    /** Features registered by other features while they were being created or loaded, key is owner's name */
+    private final Map<String, List<String>> subFeatures = new HashMap<>();
+
+    /** Name of feature currently being created or loaded */
+    @Nullable
+    private String owner;
+
+    /** Shared evaluation of disable conditions of all features */
+    @Getter
+    @NotNull
+    private final DisableConditionManager disableConditions = new DisableConditionManager();
+
+    /**
+     * Constructs new instance and marks standalone features as reloadable.
+     */
+    public FeatureManager() {
+        reloadableFeatures.put("header-footer", TabConstants.Feature.HEADER_FOOTER);
+        reloadableFeatures.put("bossbar", TabConstants.Feature.BOSS_BAR);
+        reloadableFeatures.put("scoreboard", TabConstants.Feature.SCOREBOARD);
+        reloadableFeatures.put("prevent-spectator-effect", TabConstants.Feature.SPECTATOR_FIX);
+        reloadableFeatures.put("ping-spoof", TabConstants.Feature.PING_SPOOF);
+        reloadableFeatures.put("per-world-playerlist", TabConstants.Feature.PER_WORLD_PLAYER_LIST);
+    }
+
     /**
      * Calls load() on all features.
      * This function is called on plugin startup.
      */
     public void load() {
-        for (TabFeature f : values) {
+        for (Map.Entry<String, TabFeature> entry : new ArrayList<>(features.entrySet())) {
+            TabFeature f = entry.getValue();
             if (!(f instanceof Loadable)) continue;
-            long time = System.currentTimeMillis();
+            long time = System.nanoTime();
+            owner = entry.getKey();
             ((Loadable) f).load();
-            TAB.getInstance().debug("Feature " + f.getClass().getSimpleName() + " processed load in " + (System.currentTimeMillis()-time) + "ms");
+            owner = null;
+            StartupReport report = TAB.getInstance().getStartupReport();
+            if (report != null) report.completeFeature(f.getFeatureName(), time);
+            TAB.getInstance().debug("Feature " + f.getClass().getSimpleName() + " processed load in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-time) + "ms");
         }
         if (TAB.getInstance().getConfiguration().getUsers() instanceof MySQLUserConfiguration) {
             MySQLUserConfiguration users = (MySQLUserConfiguration) TAB.getInstance().getConfiguration().getUsers();
@@ -87,6 +132,159 @@ public class FeatureManager {
         }
     }
 
+    /**
+     * Returns {@code true} if given configuration changes can be applied without
+     * reloading the entire plugin, {@code false} if full reload is required. This is
+     * the case if only sections of standalone features, groups or users have changed.
+     *
+     * @param   diff
+     *          Configuration changes
+     * @return  {@code true} if changes can be applied in place, {@code false} if not
+     */
+    public boolean isHotReloadable(@NotNull ConfigDiff diff) {
+        if (diff.isAnimationsChanged()) return false;
+        return reloadableFeatures.keySet().containsAll(diff.getChangedSections());
+    }
+
+    /**
+     * Applies configuration changes in place. Features with changed configuration
+     * are unloaded and loaded again, while all other features are left untouched.
+     * If groups or users have changed, all players are refreshed to apply new values.
+     * New configuration must be already set before calling this method.
+     *
+     * @param   diff
+     *          Configuration changes
+     */
+    public void hotReload(@NotNull ConfigDiff diff) {
+        // Only unsubscribe bridge placeholders not used by reloaded features anymore
+        TAB.getInstance().getPlaceholderManager().deferUnsubscribing();
+        try {
+            for (String section : diff.getChangedSections()) {
+                String featureName = reloadableFeatures.get(section);
+                long time = System.currentTimeMillis();
+                unloadFeature(featureName);
+                if (config().getBoolean(section + ".enabled", section.equals("header-footer"))) {
+                    loadFeature(featureName);
+                }
+                TAB.getInstance().debug("Feature " + featureName + " processed hot reload in " + (System.currentTimeMillis()-time) + "ms");
+            }
+        } finally {
+            TAB.getInstance().getPlaceholderManager().finishUnsubscribing();
+        }
+        if (!diff.isPropertiesChanged()) return;
+        if (TAB.getInstance().getConfiguration().getUsers() instanceof MySQLUserConfiguration) {
+            MySQLUserConfiguration users = (MySQLUserConfiguration) TAB.getInstance().getConfiguration().getUsers();
+            for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) users.load(p);
+        }
+        for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
+            p.forceRefresh();
+        }
+    }
+
+    /**
+     * Creates new instance of a reloadable feature.
+     *
+     * @param   featureName
+     *          Name of the feature
+     * @return  New instance of the feature or {@code null} if not available on this platform
+     */
+    @Nullable
+    private TabFeature createReloadableFeature(@NotNull String featureName) {
+        switch (featureName) {
+            case TabConstants.Feature.HEADER_FOOTER:
+                return new HeaderFooter();
+            case TabConstants.Feature.BOSS_BAR:
+                return TAB.getInstance().getPlatform().getBossBar();
+            case TabConstants.Feature.SCOREBOARD:
+                return new ScoreboardManagerImpl();
+            case TabConstants.Feature.SPECTATOR_FIX:
+                return new SpectatorFix();
+            case TabConstants.Feature.PING_SPOOF:
+                return new PingSpoof();
+            case TabConstants.Feature.PER_WORLD_PLAYER_LIST:
+                return TAB.getInstance().getPlatform().getPerWorldPlayerList();
+            default:
+                throw new IllegalArgumentException("Feature " + featureName + " cannot be reloaded");
+        }
+    }
+
+    /**
+     * Creates, registers and loads reloadable feature, remembering all features
+     * it registers while doing so as its sub-features.
+     *
+     * @param   featureName
+     *          Name of reloadable feature
+     */
+    private void loadFeature(@NotNull String featureName) {
+        TabFeature feature = registerOwnedFeature(featureName);
+        if (!(feature instanceof Loadable)) return;
+        owner = featureName;
+        try {
+            ((Loadable) feature).load();
+        } finally {
+            owner = null;
+        }
+    }
+
+    /**
+     * Unloads feature with given name along with all of its sub-features,
+     * unregisters them and removes their placeholder usage.
+     *
+     * @param   featureName
+     *          Name of the feature
+     */
+    private void unloadFeature(@NotNull String featureName) {
+        List<String> names = subFeatures.getOrDefault(featureName, new ArrayList<>());
+        names.add(featureName);
+        for (String name : names) {
+            TabFeature feature = features.get(name);
+            if (feature instanceof UnLoadable) ((UnLoadable) feature).unload();
+        }
+        for (String name : names) {
+            TabFeature feature = features.remove(name);
+            if (feature == null) continue;
+            feature.deactivate();
+            if (feature instanceof Refreshable) {
+                TAB.getInstance().getPlaceholderManager().removeUsedPlaceholders((Refreshable) feature);
+            }
+        }
+        subFeatures.remove(featureName);
+        values = features.values().toArray(new TabFeature[0]);
+        updateListenerFlags();
+    }
+
+    /**
+     * Recalculates listener flags and listened commands from currently
+     * registered features after some features were unregistered.
+     */
+    private void updateListenerFlags() {
+        hasPacketSendListener = false;
+        hasLatencyChangeListener = false;
+        hasCommandListener = false;
+        listeningCommands.clear();
+        globalPlayerList = null;
+        for (TabFeature feature : values) {
+            if (feature instanceof GlobalPlayerList) globalPlayerList = (GlobalPlayerList) feature;
+            if (feature instanceof PacketSendListener) hasPacketSendListener = true;
+            if (feature instanceof LatencyListener) hasLatencyChangeListener = true;
+            if (feature instanceof CommandListener) {
+                hasCommandListener = true;
+                String command = ((CommandListener) feature).getCommand();
+                if (!listeningCommands.contains(command)) listeningCommands.add(command);
+            }
+        }
+    }
+
+    /**
+     * Returns config.yml file of currently loaded configuration.
+     *
+     * @return  config.yml file
+     */
+    @NotNull
+    private ConfigurationFile config() {
+        return TAB.getInstance().getConfiguration().getConfig();
+    }
+
     /**
      * Calls refresh(TabPlayer, boolean) on all features
      * 
@@ -181,6 +379,7 @@ public class FeatureManager {
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.WORLD_SWITCH, System.nanoTime()-time);
         }
         ((PlayerPlaceholder)TAB.getInstance().getPlaceholderManager().getPlaceholder(TabConstants.Placeholder.WORLD)).updateValue(changed, to);
+        TAB.getInstance().getGroupManager().onContextChange(changed);
     }
 
     /**
@@ -204,6 +403,7 @@ public class FeatureManager {
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.SERVER_SWITCH, System.nanoTime()-time);
         }
         ((PlayerPlaceholder)TAB.getInstance().getPlaceholderManager().getPlaceholder(TabConstants.Placeholder.SERVER)).updateValue(changed, to);
+        TAB.getInstance().getGroupManager().onContextChange(changed);
     }
 
     /**
@@ -247,6 +447,22 @@ public class FeatureManager {
         }
     }
 
+    /**
+     * Returns {@code true} if at least one feature listens to packets of given class,
+     * {@code false} if not.
+     *
+     * @param   packetClass
+     *          Class of the packet
+     * @return  {@code true} if any feature listens to the packet class, {@code false} if not
+     */
+    public boolean isHandledPacket(@NotNull Class<?> packetClass) {
+        if (!hasPacketSendListener) return false;
+        for (TabFeature f : values) {
+            if (f instanceof PacketSendListener && ((PacketSendListener) f).isHandledPacket(packetClass)) return true;
+        }
+        return false;
+    }
+
     /**
      * Calls onDisplayObjective(...) on all features
      *
@@ -383,6 +599,9 @@ public class FeatureManager {
      */
     public void registerFeature(@NotNull String featureName, @NotNull TabFeature featureHandler) {
         features.put(featureName, featureHandler);
+        if (owner != null && !owner.equals(featureName)) {
+            subFeatures.computeIfAbsent(owner, o -> new ArrayList<>()).add(featureName);
+        }
         values = features.values().toArray(new TabFeature[0]);
         if (featureHandler instanceof VanishListener) {
             TAB.getInstance().getPlaceholderManager().addUsedPlaceholder(TabConstants.Placeholder.VANISHED);
@@ -390,6 +609,9 @@ public class FeatureManager {
         if (featureHandler instanceof GameModeListener) {
             TAB.getInstance().getPlaceholderManager().addUsedPlaceholder(TabConstants.Placeholder.GAMEMODE);
         }
+        if (featureHandler instanceof GlobalPlayerList) {
+            globalPlayerList = (GlobalPlayerList) featureHandler;
+        }
         if (featureHandler instanceof PacketSendListener) {
             hasPacketSendListener = true;
         }
@@ -398,7 +620,28 @@ public class FeatureManager {
         }
         if (featureHandler instanceof CommandListener) {
             hasCommandListener = true;
-            listeningCommands.add(((CommandListener) featureHandler).getCommand());
+            String command = ((CommandListener) featureHandler).getCommand();
+            if (!listeningCommands.contains(command)) listeningCommands.add(command);
+        }
+    }
+
+    /**
+     * Creates and registers reloadable feature, remembering all features
+     * it registers during creation as its sub-features.
+     *
+     * @param   featureName
+     *          Name of reloadable feature
+     * @return  Registered feature or {@code null} if not available on this platform
+     */
+    @Nullable
+    private TabFeature registerOwnedFeature(@NotNull String featureName) {
+        owner = featureName;
+        try {
+            TabFeature feature = createReloadableFeature(featureName);
+            if (feature != null) registerFeature(featureName, feature);
+            return feature;
+        } finally {
+            owner = null;
         }
     }
 
@@ -411,6 +654,7 @@ public class FeatureManager {
     public void unregisterFeature(@NotNull String featureName) {
         features.remove(featureName);
         values = features.values().toArray(new TabFeature[0]);
+        updateListenerFlags();
     }
 
     /**
@@ -469,15 +713,12 @@ public class FeatureManager {
             if (inj != null) featureManager.registerFeature(TabConstants.Feature.PIPELINE_INJECTION, inj);
         }
 
-        if (perWorldPlayerList) {
-            TabFeature pwp = TAB.getInstance().getPlatform().getPerWorldPlayerList();
-            if (pwp != null) featureManager.registerFeature(TabConstants.Feature.PER_WORLD_PLAYER_LIST, pwp);
-        }
-        if (bossbar)      featureManager.registerFeature(TabConstants.Feature.BOSS_BAR, TAB.getInstance().getPlatform().getBossBar());
-        if (pingSpoof)    featureManager.registerFeature(TabConstants.Feature.PING_SPOOF, new PingSpoof());
-        if (headerFooter) featureManager.registerFeature(TabConstants.Feature.HEADER_FOOTER, new HeaderFooter());
-        if (spectatorFix) featureManager.registerFeature(TabConstants.Feature.SPECTATOR_FIX, new SpectatorFix());
-        if (scoreboard)   featureManager.registerFeature(TabConstants.Feature.SCOREBOARD, new ScoreboardManagerImpl());
+        if (perWorldPlayerList) featureManager.registerOwnedFeature(TabConstants.Feature.PER_WORLD_PLAYER_LIST);
+        if (bossbar)      featureManager.registerOwnedFeature(TabConstants.Feature.BOSS_BAR);
+        if (pingSpoof)    featureManager.registerOwnedFeature(TabConstants.Feature.PING_SPOOF);
+        if (headerFooter) featureManager.registerOwnedFeature(TabConstants.Feature.HEADER_FOOTER);
+        if (spectatorFix) featureManager.registerOwnedFeature(TabConstants.Feature.SPECTATOR_FIX);
+        if (scoreboard)   featureManager.registerOwnedFeature(TabConstants.Feature.SCOREBOARD);
         if (yellowNumber) featureManager.registerFeature(TabConstants.Feature.YELLOW_NUMBER, new YellowNumber());
         if (belowName)    featureManager.registerFeature(TabConstants.Feature.BELOW_NAME, new BelowName());
         if (teams || layout) featureManager.registerFeature(TabConstants.Feature.SORTING, new Sorting());
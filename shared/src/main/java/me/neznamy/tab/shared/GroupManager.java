@@ -3,9 +3,14 @@ package me.neznamy.tab.shared;
 import lombok.Getter;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -26,8 +31,21 @@ public class GroupManager {
     /** List of group permissions to iterate through if {@link #groupsByPermissions} is {@code true} */
     private final List<String> primaryGroupFindingList = TAB.getInstance().getConfiguration().getConfig().getStringList("primary-group-finding-list", Arrays.asList("Owner", "Admin", "Helper", "default"));
 
+    /** Players whose group refresh is already scheduled, {@link #ALL_PLAYERS} if all players */
+    private final Set<UUID> pendingRefresh = ConcurrentHashMap.newKeySet();
+
+    /** Flag tracking whether permission plugin notifies about group changes instead of groups being polled */
+    private final boolean notified;
+
+    /** Subscription cancel function if permission plugin notifies about group changes, {@code null} if polling or unloaded */
+    @Nullable private Runnable unsubscribe;
+
+    /** Constant used in {@link #pendingRefresh} for refresh of all players */
+    private static final UUID ALL_PLAYERS = new UUID(0, 0);
+
     /**
-     * Constructs new instance with given permission plugin and registers group placeholder.
+     * Constructs new instance with given permission plugin and starts a repeating
+     * task refreshing groups of all players.
      *
      * @param   permissionPlugin
      *          Name of detected permission plugin
@@ -35,8 +53,31 @@ public class GroupManager {
      *          Function returning group of a player
      */
     public GroupManager(@NotNull String permissionPlugin, @NotNull Function<TabPlayer, String> groupFunction) {
+        this(permissionPlugin, groupFunction, null);
+    }
+
+    /**
+     * Constructs new instance with given permission plugin. If a change source is provided,
+     * groups are refreshed when permission plugin notifies about a change and when player's
+     * context changes (world or server switch), which is not notified. If not, a repeating
+     * task refreshing groups of all players is started using configured interval.
+     *
+     * @param   permissionPlugin
+     *          Name of detected permission plugin
+     * @param   groupFunction
+     *          Function returning group of a player
+     * @param   changeSource
+     *          Source notifying about group changes, {@code null} if not supported
+     */
+    public GroupManager(@NotNull String permissionPlugin, @NotNull Function<TabPlayer, String> groupFunction,
+                        @Nullable GroupChangeSource changeSource) {
         this.permissionPlugin = permissionPlugin;
         this.groupFunction = groupFunction;
+        notified = changeSource != null;
+        if (changeSource != null) {
+            unsubscribe = changeSource.subscribe(this::onGroupChange);
+            return;
+        }
         TAB.getInstance().getCPUManager().startRepeatingMeasuredTask(TAB.getInstance().getConfiguration().getPermissionRefreshInterval(),
                 "Permission group refreshing", "Refreshing task", () -> {
             for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
@@ -45,6 +86,52 @@ public class GroupManager {
         });
     }
 
+    /**
+     * Refreshes group of player whose context changed (world or server switch)
+     * if permission plugin notifies about changes, because such changes are not
+     * notified. When polling, group is refreshed by the repeating task instead.
+     *
+     * @param   player
+     *          Player whose context changed
+     */
+    public void onContextChange(@NotNull TabPlayer player) {
+        if (notified) player.setGroup(detectPermissionGroup(player));
+    }
+
+    /**
+     * Processes group change notification from permission plugin. Called from any thread,
+     * the refresh itself is performed on the main thread. Multiple notifications for the
+     * same player before the refresh is processed only result in a single refresh.
+     *
+     * @param   player
+     *          UUID of player whose group may have changed, {@code null} if all players may be affected
+     */
+    private void onGroupChange(@Nullable UUID player) {
+        if (!pendingRefresh.add(player == null ? ALL_PLAYERS : player)) return;
+        TAB.getInstance().getCPUManager().runMeasuredTask("Permission group refreshing", "Processing group change", () -> {
+            if (player == null) {
+                pendingRefresh.remove(ALL_PLAYERS);
+                for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
+                    all.setGroup(detectPermissionGroup(all));
+                }
+            } else {
+                pendingRefresh.remove(player);
+                TabPlayer p = TAB.getInstance().getPlayer(player);
+                if (p != null) p.setGroup(detectPermissionGroup(p));
+            }
+        });
+    }
+
+    /**
+     * Cancels subscription to group changes if there is any.
+     * Does nothing if already cancelled.
+     */
+    public void unload() {
+        Runnable unsubscribe = this.unsubscribe;
+        this.unsubscribe = null;
+        if (unsubscribe != null) unsubscribe.run();
+    }
+
     /**
      * Detects player's permission group using configured method and returns it
      *
@@ -92,4 +179,22 @@ public class GroupManager {
         }
         return TabConstants.NO_GROUP;
     }
-}
\ No newline at end of file
+
+    /**
+     * Source of group change notifications from permission plugin.
+     */
+    public interface GroupChangeSource {
+
+        /**
+         * Starts listening to changes that may affect groups of players. Given callback
+         * is called with UUID of affected player, or {@code null} if all players may be affected.
+         * The callback may be called from any thread.
+         *
+         * @param   callback
+         *          Callback to call on change
+         * @return  Function cancelling the subscription
+         */
+        @NotNull
+        Runnable subscribe(@NotNull Consumer<UUID> callback);
+    }
+}
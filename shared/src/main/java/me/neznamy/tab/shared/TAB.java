@@ -1,7 +1,6 @@
 package me.neznamy.tab.shared;
 
 import lombok.Getter;
-import lombok.Setter;
 import me.neznamy.tab.api.TabAPI;
 import me.neznamy.tab.api.bossbar.BossBarManager;
 import me.neznamy.tab.api.tablist.SortingManager;
@@ -11,13 +10,16 @@ import me.neznamy.tab.api.tablist.HeaderFooterManager;
 import me.neznamy.tab.api.tablist.TabListFormatManager;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.config.ConfigDiff;
 import me.neznamy.tab.shared.config.helper.ConfigHelper;
 import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.StartupReport;
 import me.neznamy.tab.shared.features.nametags.NameTag;
 import me.neznamy.tab.shared.platform.Platform;
 import me.neznamy.tab.shared.command.DisabledCommand;
 import me.neznamy.tab.shared.command.TabCommand;
 import me.neznamy.tab.shared.config.Configs;
+import me.neznamy.tab.shared.config.file.BrokenFileException;
 import me.neznamy.tab.shared.event.EventBusImpl;
 import me.neznamy.tab.shared.event.impl.TabLoadEventImpl;
 import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
@@ -104,7 +106,10 @@ public class TAB extends TabAPI {
     private final File dataFolder;
 
     /** File with YAML syntax error, which prevented plugin from loading */
-    @Setter private String brokenFile;
+    private String brokenFile;
+
+    /** Timings of the last load */
+    @Nullable private StartupReport startupReport;
 
     /** Helper for detecting misconfiguration in configs and send it to user */
     private final ConfigHelper configHelper = new ConfigHelper();
@@ -168,27 +173,36 @@ public class TAB extends TabAPI {
      */
     public String load() {
         try {
-            long time = System.currentTimeMillis();
+            startupReport = new StartupReport();
+            long time = startupReport.getStartTime();
             cpu = new CpuManager();
             configuration = new Configs();
+            time = startupReport.completePhase("Loading configuration files", time);
             featureManager = new FeatureManager();
             placeholderManager = new PlaceholderManagerImpl(cpu);
             featureManager.registerFeature(TabConstants.Feature.PLACEHOLDER_MANAGER, placeholderManager);
             groupManager = platform.detectPermissionPlugin();
             platform.registerPlaceholders();
+            time = startupReport.completePhase("Registering placeholders", time);
             featureManager.loadFeaturesFromConfig();
+            time = startupReport.completePhase("Creating features", time);
             platform.loadPlayers();
+            time = startupReport.completePhase("Loading players", time);
             command = new TabCommand();
             featureManager.load();
+            time = startupReport.completePhase("Loading features", time);
             for (TabPlayer p : onlinePlayers) p.markAsLoaded(false);
             if (eventBus != null) eventBus.fire(TabLoadEventImpl.getInstance());
             pluginDisabled = false;
             cpu.enable();
             configHelper.startup().checkErrorLog();
             configHelper.startup().printWarnCount();
-            platform.logInfo(TabComponent.fromColoredText(EnumChatFormat.GREEN + "Enabled in " + (System.currentTimeMillis()-time) + "ms"));
+            startupReport.completePhase("Finishing", time);
+            platform.logInfo(TabComponent.fromColoredText(EnumChatFormat.GREEN + "Enabled in " + startupReport.finish() + "ms"));
+            startupReport.getPhases().forEach((phase, ms) -> debug("Load phase \"" + phase + "\" took " + ms + "ms"));
             return configuration.getMessages().getReloadSuccess();
         } catch (YAMLException e) {
+            setBrokenFile(e);
             platform.logWarn(TabComponent.fromColoredText(EnumChatFormat.RED + "Did not enable due to a broken configuration file."));
             kill();
             return (configuration == null ? "&4Failed to reload, file %file% has broken syntax. Check console for more info."
@@ -200,6 +214,61 @@ public class TAB extends TabAPI {
         }
     }
 
+    /**
+     * Reloads the plugin. If hot reload is enabled, new configuration is compared
+     * with the current one and only the changed parts are applied, keeping all other
+     * features untouched. If changes cannot be applied in place, or hot reload is
+     * disabled, the entire plugin is unloaded and loaded again.
+     * Returns reload status message, which is either success or failure.
+     *
+     * @return  Reload status message
+     */
+    public String reload() {
+        if (pluginDisabled || !configuration.isHotReload()) {
+            unload();
+            return load();
+        }
+        try {
+            long time = System.currentTimeMillis();
+            Configs parsed = new Configs();
+            ConfigDiff diff = new ConfigDiff(configuration, parsed);
+            if (featureManager.isHotReloadable(diff)) {
+                Configs previous = configuration;
+                configuration = parsed;
+                previous.closeToggleStore();
+                if (previous.getMysql() != null) previous.getMysql().closeConnection();
+                featureManager.hotReload(diff);
+                if (eventBus != null) eventBus.fire(TabLoadEventImpl.getInstance());
+                platform.logInfo(TabComponent.fromColoredText(EnumChatFormat.GREEN + "Hot reloaded in " + (System.currentTimeMillis()-time) + "ms"));
+                return configuration.getMessages().getReloadSuccess();
+            }
+            if (parsed.getMysql() != null) parsed.getMysql().closeConnection();
+        } catch (YAMLException e) {
+            // Keep running with the current configuration
+            setBrokenFile(e);
+            platform.logWarn(TabComponent.fromColoredText(EnumChatFormat.RED + "Did not reload due to a broken configuration file."));
+            return configuration.getMessages().getReloadFailBrokenFile().replace("%file%", brokenFile);
+        } catch (Throwable e) {
+            errorManager.criticalError("Failed to hot reload, performing full reload", e);
+            unload();
+            return load();
+        }
+        unload();
+        return load();
+    }
+
+    /**
+     * Remembers name of the file, which failed to load due to broken syntax. Called
+     * from the thread handling the exception, so the first broken file in load order
+     * is reported even if files are parsed in parallel.
+     *
+     * @param   e
+     *          Exception thrown when loading configuration
+     */
+    private void setBrokenFile(@NotNull YAMLException e) {
+        brokenFile = e instanceof BrokenFileException ? ((BrokenFileException) e).getFileName() : "unknown";
+    }
+
     /**
      * Unloads all features by sending clear packets, resets variables
      * and cancels all tasks.
@@ -208,13 +277,21 @@ public class TAB extends TabAPI {
         if (pluginDisabled) return;
         try {
             long time = System.currentTimeMillis();
+            configuration.closeToggleStore();
             if (configuration.getMysql() != null) configuration.getMysql().closeConnection();
+            // Stop receiving permission plugin events before features are gone
+            groupManager.unload();
+            // Buffered changes would never be sent after tasks are cancelled
+            for (TabPlayer player : onlinePlayers) {
+                player.getScoreboard().setBuffered(false);
+            }
             featureManager.unload();
             platform.logInfo(TabComponent.fromColoredText(EnumChatFormat.GREEN + "Disabled in " + (System.currentTimeMillis()-time) + "ms"));
         } catch (Throwable e) {
             errorManager.criticalError("Failed to disable", e);
         }
         kill();
+        errorManager.close();
     }
 
     /**
@@ -222,6 +299,7 @@ public class TAB extends TabAPI {
      */
     private void kill() {
         pluginDisabled = true;
+        if (groupManager != null) groupManager.unload();
         data.clear();
         playersByTabListId.clear();
         onlinePlayers = new TabPlayer[0];
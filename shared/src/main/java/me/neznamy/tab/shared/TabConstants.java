@@ -67,11 +67,14 @@ public class TabConstants {
         // Placeholders
         public static final String PLACEHOLDER_REFRESH_INIT = "Phase #1 - Preparing for request";
         public static final String PLACEHOLDER_REQUEST = "Phase #2 - Requesting new values";
+        public static final String PLACEHOLDER_REQUEST_ISOLATED = "Phase #2 - Requesting new values (slow placeholders)";
         public static final String PLACEHOLDER_SAVE = "Phase #3 - Saving results";
 
         // Other
         public static final String GAMEMODE_CHANGE = "Processing gamemode change";
         public static final String TABLIST_CLEAR = "TabList entry re-add";
+        public static final String TABLIST_FLUSH = "Sending queued TabList changes";
+        public static final String SCOREBOARD_FLUSH = "Sending buffered scoreboard changes";
         public static final String VANISH_CHANGE = "Vanish status change";
         public static final String REFRESHING_NAME_TAG_VISIBILITY = "Refreshing NameTag visibility";
         public static final String PROCESSING_PLAYER_MOVEMENT = "Processing player movement";
@@ -259,6 +262,7 @@ public class TabConstants {
         public static final String COLLISION = "%collision%";
         public static final String INVISIBLE = "%invisible%";
         public static final String VEHICLE = "%vehicle%";
+        public static final String SPECTATOR_BYPASS = "%spectator-bypass%";
 
         // Bukkit only
         public static final String TPS = "%tps%";
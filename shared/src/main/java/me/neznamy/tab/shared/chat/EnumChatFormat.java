@@ -150,6 +150,22 @@ public enum EnumChatFormat {
         return new String(b);
     }
 
+    /**
+     * Replaces all {@code &} color symbols in provided text with the color symbol
+     * directly in the buffer without creating new strings.
+     *
+     * @param   textToTranslate
+     *          text to replace color symbol in
+     */
+    public static void color(@NotNull StringBuilder textToTranslate) {
+        for (int i = 0; i < textToTranslate.length() - 1; i++) {
+            if ((textToTranslate.charAt(i) == '&') && ("0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx#".indexOf(textToTranslate.charAt(i + 1)) > -1)) {
+                textToTranslate.setCharAt(i, COLOR_CHAR);
+                textToTranslate.setCharAt(i + 1, Character.toLowerCase(textToTranslate.charAt(i + 1)));
+            }
+        }
+    }
+
     /**
      * Turns back the color symbol into '&amp;' symbol in provided text.
      *
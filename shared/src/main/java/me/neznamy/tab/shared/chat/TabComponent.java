@@ -23,6 +23,9 @@ public abstract class TabComponent {
     /**
      * Component cache maps to avoid large memory allocations as well as
      * higher CPU usage when using animations which send the same text on repeat.
+     * Since the same text always returns the same instance, platform components
+     * converted by {@link #convert(ProtocolVersion)} are shared by all viewers with
+     * the same RGB support and reused on every refresh while the text is unchanged.
      */
     private static final ComponentCache<String, TabComponent> stringCache = new ComponentCache<>(1000, (text, clientVersion) -> {
         return text.contains("#") || text.contains("&x") || text.contains(EnumChatFormat.COLOR_CHAR + "x") || text.contains("<") ?
@@ -3,9 +3,13 @@ package me.neznamy.tab.shared.command;
 import java.text.DecimalFormat;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.cpu.CpuReport;
+import me.neznamy.tab.shared.cpu.StartupReport;
+import me.neznamy.tab.shared.placeholders.AdaptiveRefresh;
+import me.neznamy.tab.shared.placeholders.PlaceholderBudget;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.api.placeholder.Placeholder;
@@ -47,6 +51,11 @@ public class CpuCommand extends SubCommand {
         sendMessage(sender, "&8&l" + LINE_CHAR + "&8&m                                                    ");
         sendMessage(sender, "&8&l" + LINE_CHAR + " &6Top 5 placeholders:");
         printPlaceholders(sender, report.getPlaceholderUsage());
+        PlaceholderBudget budget = TAB.getInstance().getPlaceholderManager().getRefreshBudget();
+        if (budget != null && !budget.getBreakers().isEmpty()) {
+            sendMessage(sender, "&8&l" + LINE_CHAR + " &6Placeholders exceeding refresh budget:");
+            printBreakers(sender, budget);
+        }
         sendMessage(sender, "&8&l" + LINE_CHAR + "&8&m                                                    ");
         if (sender != null) {
             sendToPlayer(sender, features);
@@ -57,6 +66,11 @@ public class CpuCommand extends SubCommand {
         sendMessage(sender, String.format("&8&l%s &6&lPlaceholders Total: &a&l%s%%", LINE_CHAR, colorize(decimal3.format(report.getPlaceholderUsageTotal()), 10, 5)));
         sendMessage(sender, String.format("&8&l%s &6&lPlugin internals: &a&l%s%%", LINE_CHAR, colorize(decimal3.format(report.getFeatureUsageTotal()-report.getPlaceholderUsageTotal()), 10, 5)));
         sendMessage(sender, String.format("&8&l%s &6&lTotal: &e&l%s%%", LINE_CHAR, colorize(decimal3.format(report.getFeatureUsageTotal()), 10, 5)));
+        StartupReport startup = TAB.getInstance().getStartupReport();
+        if (startup != null && startup.getTotalTime() != -1) {
+            sendMessage(sender, "&8&l" + LINE_CHAR + "&8&m                                                    ");
+            printStartup(sender, startup);
+        }
         sendMessage(sender, "&8&l" + LINE_CHAR + "&8&m             &r&8&l[ &bTAB CPU Stats &8&l]&r&8&l&m             ");
         sendMessage(sender, " ");
     }
@@ -68,11 +82,38 @@ public class CpuCommand extends SubCommand {
             String refresh = "";
             Placeholder p = TAB.getInstance().getPlaceholderManager().getPlaceholder(entry.getKey());
             if (p.getRefresh() != -1) refresh = " &8(" + p.getRefresh() + ")&7";
+            AdaptiveRefresh adaptive = TAB.getInstance().getPlaceholderManager().getAdaptiveRefresh();
+            AdaptiveRefresh.Stats stats = adaptive == null ? null : adaptive.getStats(entry.getKey());
+            if (stats != null) {
+                refresh = String.format(" &8(%s -> %s, changed %s/%s)&7", stats.getBaseInterval(), stats.getInterval(),
+                        stats.getChanges(), stats.getRefreshes());
+            }
             String colorized = entry.getKey().startsWith("%sync:") ? "&c" + decimal3.format(entry.getValue()) : colorize(decimal3.format(entry.getValue()), 1, 0.3f);
             sendMessage(sender, String.format("&8&l%s &7%s - %s%%", LINE_CHAR, entry.getKey() + refresh, colorized));
         }
     }
 
+    private void printBreakers(@Nullable TabPlayer sender, @NotNull PlaceholderBudget budget) {
+        for (PlaceholderBudget.Breaker breaker : budget.getBreakers().values()) {
+            String state = breaker.getState() == PlaceholderBudget.State.TRIPPED ? "&cpaused" : "&eseparate thread";
+            sendMessage(sender, String.format("&8&l%s &7%s - %s &8(last refresh %sms, exceeded %s times)", LINE_CHAR, breaker.getIdentifier(),
+                    state, TimeUnit.NANOSECONDS.toMillis(breaker.getLastTime()), breaker.getTotalOverruns()));
+        }
+    }
+
+    private void printStartup(@Nullable TabPlayer sender, @NotNull StartupReport startup) {
+        sendMessage(sender, String.format("&8&l%s &6Last load took &e%sms&6:", LINE_CHAR, startup.getTotalTime()));
+        synchronized (startup.getPhases()) {
+            for (Entry<String, Long> phase : startup.getPhases().entrySet()) {
+                sendMessage(sender, String.format("&8&l%s &7%s - &e%sms", LINE_CHAR, phase.getKey(), phase.getValue()));
+            }
+        }
+        sendMessage(sender, "&8&l" + LINE_CHAR + " &6Slowest features to load:");
+        for (Entry<String, Long> feature : startup.getSlowestFeatures(5)) {
+            sendMessage(sender, String.format("&8&l%s &7%s - &e%sms", LINE_CHAR, feature.getKey(), feature.getValue()));
+        }
+    }
+
     public void sendToConsole(@NotNull Map<String, Map<String, Float>> features) {
         TAB.getInstance().getPlatform().logInfo(TabComponent.fromColoredText(EnumChatFormat.color("&8&l" + LINE_CHAR + " &6Features:")));
         for (Entry<String, Map<String, Float>> entry : features.entrySet()) {
@@ -85,8 +85,8 @@ public class GroupCommand extends PropertyCommand {
         } else {
             sendMessage(sender, getMessages().getGroupValueRemoved(type, group));
         }
-        String[] property = TAB.getInstance().getConfiguration().getGroups().getProperty(group, type, server, world);
-        if (property.length > 0 && String.valueOf(value.isEmpty() ? null : value).equals(String.valueOf(property[0]))) return;
+        List<String> property = TAB.getInstance().getConfiguration().getGroups().getProperty(group, type, server, world);
+        if (!property.isEmpty() && String.valueOf(value.isEmpty() ? null : value).equals(String.valueOf(property.get(0)))) return;
         TAB.getInstance().getConfiguration().getGroups().setProperty(group, type, server, world, value.isEmpty() ? null : value);
         for (TabPlayer pl : TAB.getInstance().getOnlinePlayers()) {
             if (pl.getGroup().equals(group) || TabConstants.DEFAULT_GROUP.equals(group)) {
@@ -55,8 +55,8 @@ public class PlayerCommand extends PropertyCommand {
         } else {
             sendMessage(sender, getMessages().getPlayerValueRemoved(type, player));
         }
-        String[] property = TAB.getInstance().getConfiguration().getUsers().getProperty(player, type, server, world);
-        if (property.length > 0 && String.valueOf(value.isEmpty() ? null : value).equals(String.valueOf(property[0]))) return;
+        List<String> property = TAB.getInstance().getConfiguration().getUsers().getProperty(player, type, server, world);
+        if (!property.isEmpty() && String.valueOf(value.isEmpty() ? null : value).equals(String.valueOf(property.get(0)))) return;
         TAB.getInstance().getConfiguration().getUsers().setProperty(player, type, server, world, value.isEmpty() ? null : value);
         TabPlayer pl = TAB.getInstance().getPlayer(player);
         try {
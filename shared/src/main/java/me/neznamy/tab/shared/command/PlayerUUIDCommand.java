@@ -59,8 +59,8 @@ public class PlayerUUIDCommand extends PropertyCommand {
         } else {
             sendMessage(sender, getMessages().getPlayerValueRemoved(type, playerName + "(" + player.getUniqueId() + ")"));
         }
-        String[] property = TAB.getInstance().getConfiguration().getUsers().getProperty(player.getUniqueId().toString(), type, server, world);
-        if (property.length > 0 && String.valueOf(value.isEmpty() ? null : value).equals(String.valueOf(property[0]))) return;
+        List<String> property = TAB.getInstance().getConfiguration().getUsers().getProperty(player.getUniqueId().toString(), type, server, world);
+        if (!property.isEmpty() && String.valueOf(value.isEmpty() ? null : value).equals(String.valueOf(property.get(0)))) return;
         TAB.getInstance().getConfiguration().getUsers().setProperty(player.getUniqueId().toString(), type, server, world, value.isEmpty() ? null : value);
         player.forceRefresh();
     }
@@ -0,0 +1,53 @@
+package me.neznamy.tab.shared.config;
+
+import lombok.Getter;
+import me.neznamy.tab.shared.config.file.YamlPropertyConfigurationFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Differences between currently loaded configuration and a freshly parsed one,
+ * used to only apply changed parts of configuration on reload.
+ */
+@Getter
+public class ConfigDiff {
+
+    /** Top-level sections of config.yml that were added, removed or changed */
+    @NotNull
+    private final Set<String> changedSections = new LinkedHashSet<>();
+
+    /** Whether animations.yml has changed or not */
+    private final boolean animationsChanged;
+
+    /**
+     * Whether groups or users have changed or not. Always {@code true}
+     * when using MySQL, since there is no file content to compare.
+     */
+    private final boolean propertiesChanged;
+
+    /**
+     * Compares given configurations.
+     *
+     * @param   current
+     *          Currently loaded configuration
+     * @param   parsed
+     *          Freshly parsed configuration
+     */
+    public ConfigDiff(@NotNull Configs current, @NotNull Configs parsed) {
+        Map<String, Object> oldValues = current.getConfig().getValues();
+        Map<String, Object> newValues = parsed.getConfig().getValues();
+        Set<String> keys = new LinkedHashSet<>(oldValues.keySet());
+        keys.addAll(newValues.keySet());
+        for (String key : keys) {
+            if (!Objects.equals(oldValues.get(key), newValues.get(key))) changedSections.add(key);
+        }
+        animationsChanged = !Objects.equals(current.getAnimationFile().getValues(), parsed.getAnimationFile().getValues());
+        propertiesChanged = changed(current.getGroups(), parsed.getGroups()) || changed(current.getUsers(), parsed.getUsers());
+    }
+
+    private boolean changed(@NotNull PropertyConfiguration current, @NotNull PropertyConfiguration parsed) {
+        if (!(current instanceof YamlPropertyConfigurationFile) || !(parsed instanceof YamlPropertyConfigurationFile)) return true;
+        return !Objects.equals(((YamlPropertyConfigurationFile) current).getValues(), ((YamlPropertyConfigurationFile) parsed).getValues());
+    }
+}
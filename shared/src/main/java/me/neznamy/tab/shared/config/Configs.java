@@ -1,15 +1,17 @@
 package me.neznamy.tab.shared.config;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import me.neznamy.tab.shared.FeatureManager;
 import me.neznamy.tab.shared.TAB;
-import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.config.file.ConfigurationFile;
 import me.neznamy.tab.shared.config.file.YamlConfigurationFile;
 import me.neznamy.tab.shared.config.file.YamlPropertyConfigurationFile;
 import me.neznamy.tab.shared.config.mysql.MySQL;
 import me.neznamy.tab.shared.config.mysql.MySQLGroupConfiguration;
 import me.neznamy.tab.shared.config.mysql.MySQLUserConfiguration;
+import me.neznamy.tab.shared.config.toggle.FileToggleStore;
+import me.neznamy.tab.shared.config.toggle.MySQLToggleStore;
+import me.neznamy.tab.shared.config.toggle.ToggleStore;
 import me.neznamy.tab.shared.features.GlobalPlayerList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -17,8 +19,10 @@ import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.sql.SQLException;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Core of loading configuration files
@@ -26,6 +30,13 @@ import java.util.List;
 @Getter
 public class Configs {
 
+    //animations.yml and messages.yml, parsed in parallel with config.yml as they do not depend on each other
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<ConfigurationFile> animationTask = parseAsync(() -> new YamlConfigurationFile(
+            Configs.class.getClassLoader().getResourceAsStream("config/animations.yml"), new File(TAB.getInstance().getDataFolder(), "animations.yml")));
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<MessageFile> messageTask = parseAsync(MessageFile::new);
+
     //config.yml file
     private final ConfigurationFile config = new YamlConfigurationFile(getClass().getClassLoader().getResourceAsStream("config/config.yml"),
             new File(TAB.getInstance().getDataFolder(), "config.yml"));
@@ -36,17 +47,21 @@ public class Configs {
     private final boolean pipelineInjection = getSecretOption("pipeline-injection", true);
     private final String serverName = getSecretOption("server-name", "N/A");
     private final int permissionRefreshInterval = config.getInt("permission-refresh-interval", 1000);
+    private final boolean scoreboardPacketBuffering = getSecretOption("scoreboard-packet-buffering", true);
+    private final boolean hotReload = getSecretOption("hot-reload", true);
 
     //animations.yml file
-    private final ConfigurationFile animationFile = new YamlConfigurationFile(getClass().getClassLoader().getResourceAsStream("config/animations.yml"),
-            new File(TAB.getInstance().getDataFolder(), "animations.yml"));
+    private final ConfigurationFile animationFile = join(animationTask);
 
     //messages.yml file
-    private final MessageFile messages = new MessageFile();
+    private final MessageFile messages = join(messageTask);
 
     //playerdata.yml, used for bossbar & scoreboard toggle saving
     private ConfigurationFile playerdata;
 
+    //toggle choices of players, backed by playerdata.yml or mysql
+    private ToggleStore toggleStore;
+
     private PropertyConfiguration groups;
 
     private PropertyConfiguration users;
@@ -95,11 +110,64 @@ public class Configs {
                 TAB.getInstance().getErrorManager().mysqlConnectionFailed(e);
             }
         }
-        groups = new YamlPropertyConfigurationFile(getClass().getClassLoader().getResourceAsStream("config/groups.yml"), new File(TAB.getInstance().getDataFolder(), "groups.yml"));
-        users = new YamlPropertyConfigurationFile(getClass().getClassLoader().getResourceAsStream("config/users.yml"), new File(TAB.getInstance().getDataFolder(), "users.yml"));
+        CompletableFuture<PropertyConfiguration> groupTask = parseAsync(() -> new YamlPropertyConfigurationFile(
+                Configs.class.getClassLoader().getResourceAsStream("config/groups.yml"), new File(TAB.getInstance().getDataFolder(), "groups.yml")));
+        CompletableFuture<PropertyConfiguration> userTask = parseAsync(() -> new YamlPropertyConfigurationFile(
+                Configs.class.getClassLoader().getResourceAsStream("config/users.yml"), new File(TAB.getInstance().getDataFolder(), "users.yml")));
+        // Joined in original load order, so the first broken file is reported if more of them are broken
+        groups = join(groupTask);
+        users = join(userTask);
         TAB.getInstance().getConfigHelper().hint().checkForRedundantElseReplacement(config.getConfigurationSection("placeholder-output-replacements"));
     }
 
+    /**
+     * Starts parsing a file on another thread.
+     *
+     * @param   parser
+     *          Function parsing the file
+     * @return  Task which completes with parsed file
+     * @param   <T>
+     *          Type of parsed file
+     */
+    @NotNull
+    private static <T> CompletableFuture<T> parseAsync(@NotNull FileParser<T> parser) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return parser.parse();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Waits for file parsing to finish and returns the result. Exception thrown
+     * by the parser is rethrown as is in the joining thread, which then reports
+     * the broken file instead of the parsing thread.
+     *
+     * @param   task
+     *          Parsing task
+     * @return  Parsed file
+     * @param   <T>
+     *          Type of parsed file
+     * @throws  IOException
+     *          if File I/O operation failed
+     * @throws  YAMLException
+     *          if file contains syntax errors
+     */
+    @NotNull
+    private static <T> T join(@NotNull CompletableFuture<T> task) throws IOException {
+        try {
+            return task.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+
     /**
      * Returns value of hidden config option with specified path if it exists, defaultValue otherwise
      *
@@ -129,44 +197,92 @@ public class Configs {
         return playerdata;
     }
 
-    public String getGroup(@NotNull List<Object> serverGroups, @Nullable String element) {
-        if (serverGroups.isEmpty() || element == null) return element;
-        for (Object worldGroup : serverGroups) {
-            for (String definedWorld : worldGroup.toString().split(";")) {
-                if (definedWorld.endsWith("*")) {
-                    if (element.toLowerCase().startsWith(definedWorld.substring(0, definedWorld.length()-1).toLowerCase())) return worldGroup.toString();
-                } else if (definedWorld.startsWith("*")) {
-                    if (element.toLowerCase().endsWith(definedWorld.substring(1).toLowerCase())) return worldGroup.toString();
-                }  else {
-                    if (element.equalsIgnoreCase(definedWorld)) return worldGroup.toString();
+    /**
+     * Returns store of player toggle choices, creating it on first call. Uses MySQL
+     * if it is enabled and "mysql.store-toggle-choices" is set to {@code true},
+     * playerdata.yml with a journal file otherwise.
+     *
+     * @return  Store of player toggle choices
+     */
+    @NotNull
+    public synchronized ToggleStore getToggleStore() {
+        if (toggleStore == null) {
+            if (mysql != null && getSecretOption("mysql.store-toggle-choices", false)) {
+                try {
+                    toggleStore = new MySQLToggleStore(mysql, this::createFileToggleStore);
+                    return toggleStore;
+                } catch (SQLException e) {
+                    TAB.getInstance().getErrorManager().mysqlQueryFailed(e);
                 }
             }
+            toggleStore = createFileToggleStore();
         }
-        return element;
+        return toggleStore;
+    }
+
+    /**
+     * Creates toggle store using playerdata.yml and its journal.
+     *
+     * @return  File toggle store
+     */
+    @NotNull
+    private ToggleStore createFileToggleStore() {
+        return new FileToggleStore(getPlayerDataFile(), new File(TAB.getInstance().getDataFolder(), "playerdata.journal"));
     }
 
-    public String getServerGroup(@NotNull List<Object> serverGroups, @Nullable String server) {
+    /**
+     * Writes pending toggle choices if toggle store was used.
+     */
+    public synchronized void closeToggleStore() {
+        if (toggleStore != null) toggleStore.close();
+    }
+
+    /**
+     * Returns per-server section key for given server. If global playerlist is enabled
+     * and server belongs to a server group defined there, that group is returned if
+     * it is defined in the section as well. Otherwise, standard key matching is used.
+     *
+     * @param   serverGroups
+     *          Compiled keys of per-server section
+     * @param   server
+     *          Server to get key for
+     * @return  Matching key or server itself if nothing matched
+     */
+    public String getServerGroup(@NotNull GroupKeyMatcher serverGroups, @Nullable String server) {
         String globalGroup = tryServerGroup(serverGroups, server);
         if (globalGroup != null) return globalGroup;
 
         // Use existing logic to check config key for server group (separated by ';')
-        return getGroup(serverGroups, server);
+        return serverGroups.match(server);
     }
 
-    private @Nullable String tryServerGroup(@NotNull List<Object> serverGroups, @Nullable String server) {
+    private @Nullable String tryServerGroup(@NotNull GroupKeyMatcher serverGroups, @Nullable String server) {
         if (serverGroups.isEmpty() || server == null) return null;
 
         // Check global-playerlist server-groups for this server
-        FeatureManager featureManager = TAB.getInstance().getFeatureManager();
-        if (!featureManager.isFeatureEnabled(TabConstants.Feature.GLOBAL_PLAYER_LIST)) return null;
-
-        GlobalPlayerList t = featureManager.getFeature(TabConstants.Feature.GLOBAL_PLAYER_LIST);
+        GlobalPlayerList t = TAB.getInstance().getFeatureManager().getGlobalPlayerList();
         if (t == null) return null;
 
         String globalGroup = t.getServerGroup(server);
-        for (Object serverGroup : serverGroups) {
-            if (globalGroup.equals(serverGroup.toString())) return globalGroup;
-        }
-        return null;
+        return serverGroups.isDefined(globalGroup) ? globalGroup : null;
+    }
+
+    /**
+     * Function parsing a configuration file.
+     *
+     * @param   <T>
+     *          Type of parsed file
+     */
+    private interface FileParser<T> {
+
+        /**
+         * Parses the file.
+         *
+         * @return  Parsed file
+         * @throws  IOException
+         *          if File I/O operation fails
+         */
+        @NotNull
+        T parse() throws IOException;
     }
 }
\ No newline at end of file
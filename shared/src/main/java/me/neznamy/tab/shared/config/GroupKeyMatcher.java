@@ -0,0 +1,129 @@
+package me.neznamy.tab.shared.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled form of per-world or per-server section keys, which may group multiple
+ * worlds or servers together using {@code ;} and use {@code *} as prefix or suffix
+ * wildcard. Keys are split and lowercased once on creation and results are cached,
+ * so repeated lookups of the same world or server do not process any strings.
+ * <p>
+ * First key with a matching pattern wins. If no key matches, the input is returned,
+ * so it can be used to look up a section named after the world or server directly.
+ */
+public class GroupKeyMatcher {
+
+    /** All patterns in the order they are defined in */
+    @NotNull private final Pattern[] patterns;
+
+    /** All keys, used for checking if a group is defined */
+    @NotNull private final Set<String> keys;
+
+    /** Cached results, key is world or server name, value is matching key */
+    @NotNull private final Map<String, String> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Compiles given section keys.
+     *
+     * @param   keys
+     *          Section keys as defined in configuration
+     */
+    public GroupKeyMatcher(@NotNull Collection<?> keys) {
+        List<Pattern> patterns = new ArrayList<>();
+        Set<String> keySet = new HashSet<>();
+        for (Object key : keys) {
+            String group = key.toString();
+            keySet.add(group);
+            for (String defined : group.split(";")) {
+                if (defined.endsWith("*")) {
+                    patterns.add(new Pattern(group, defined.substring(0, defined.length()-1).toLowerCase(Locale.US), 1));
+                } else if (defined.startsWith("*")) {
+                    patterns.add(new Pattern(group, defined.substring(1).toLowerCase(Locale.US), 2));
+                } else {
+                    patterns.add(new Pattern(group, defined.toLowerCase(Locale.US), 0));
+                }
+            }
+        }
+        this.patterns = patterns.toArray(new Pattern[0]);
+        this.keys = keySet;
+    }
+
+    /**
+     * Returns key matching given world or server. If no key matches, the input is returned.
+     *
+     * @param   element
+     *          World or server name
+     * @return  Matching key or input if no key matches
+     */
+    @Nullable
+    public String match(@Nullable String element) {
+        if (patterns.length == 0 || element == null) return element;
+        String cached = cache.get(element);
+        if (cached != null) return cached;
+        String result = compute(element);
+        cache.put(element, result);
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if given group is one of the keys, {@code false} if not.
+     *
+     * @param   group
+     *          Group to check
+     * @return  {@code true} if defined, {@code false} if not
+     */
+    public boolean isDefined(@NotNull String group) {
+        return keys.contains(group);
+    }
+
+    /**
+     * Returns {@code true} if there are no keys, {@code false} if there are.
+     *
+     * @return  {@code true} if there are no keys, {@code false} if there are
+     */
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    @NotNull
+    private String compute(@NotNull String element) {
+        String lowercase = element.toLowerCase(Locale.US);
+        for (Pattern pattern : patterns) {
+            if (pattern.matches(lowercase)) return pattern.group;
+        }
+        return element;
+    }
+
+    /**
+     * A single world or server pattern.
+     */
+    private static class Pattern {
+
+        /** Key this pattern belongs to */
+        @NotNull private final String group;
+
+        /** Lowercased pattern text without wildcard */
+        @NotNull private final String text;
+
+        /** 0 for exact match, 1 for prefix (text*), 2 for suffix (*text) */
+        private final int type;
+
+        private Pattern(@NotNull String group, @NotNull String text, int type) {
+            this.group = group;
+            this.text = text;
+            this.type = type;
+        }
+
+        private boolean matches(@NotNull String lowercase) {
+            switch (type) {
+                case 1: return lowercase.startsWith(text);
+                case 2: return lowercase.endsWith(text);
+                default: return lowercase.equals(text);
+            }
+        }
+    }
+}
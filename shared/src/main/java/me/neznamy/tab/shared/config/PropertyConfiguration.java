@@ -35,8 +35,8 @@ public interface PropertyConfiguration {
      * Gets property of group or user. If {@code server} or {@code world}
      * are not {@code null}, per-server / per-world settings are checked first
      * to try to find a match. If no match is found, global value is returned.
-     * Returned value is an array with 2 elements, with first argument being value
-     * and second being the source. If nothing is found, empty array is returned.
+     * Returned value is an unmodifiable list with 2 elements, with first element being
+     * value and second being the source. If nothing is found, empty list is returned.
      *
      * @param   groupOrUser
      *          Name of group or user, depending on what this instance handles
@@ -46,10 +46,10 @@ public interface PropertyConfiguration {
      *          Server the player is currently in, to allow check for per-server settings
      * @param   world
      *          World the player is currently in, to allow check for per-world settings
-     * @return  Array with 2 elements with value being first, source second if found,
-     *          empty array if nothing was found.
+     * @return  Unmodifiable list with 2 elements with value being first, source second
+     *          if found, empty list if nothing was found.
      */
-    @NotNull String[] getProperty(@NotNull String groupOrUser, @NotNull String property, @Nullable String server, @Nullable String world);
+    @NotNull List<String> getProperty(@NotNull String groupOrUser, @NotNull String property, @Nullable String server, @Nullable String world);
 
     /**
      * Removes all data applied to specified group or user.
@@ -0,0 +1,31 @@
+package me.neznamy.tab.shared.config.file;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.yaml.snakeyaml.error.YAMLException;
+
+/**
+ * Exception thrown when a configuration file has invalid YAML syntax,
+ * carrying name of the file, so it can be reported by the thread
+ * handling the exception regardless of which thread parsed the file.
+ */
+@Getter
+public class BrokenFileException extends YAMLException {
+
+    /** Name of the broken file */
+    @NotNull
+    private final String fileName;
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   fileName
+     *          Name of the broken file
+     * @param   cause
+     *          Exception thrown by yaml parser
+     */
+    public BrokenFileException(@NotNull String fileName, @NotNull YAMLException cause) {
+        super(cause.getMessage(), cause);
+        this.fileName = fileName;
+    }
+}
@@ -55,7 +55,6 @@ public class YamlConfigurationFile extends ConfigurationFile {
         } catch (YAMLException e) {
             if (input != null) input.close();
             TAB tab = TAB.getInstance();
-            tab.setBrokenFile(destination.getName());
             tab.getPlatform().logWarn(TabComponent.fromColoredText("File " + destination + " has broken syntax."));
             tab.getPlatform().logInfo(TabComponent.fromColoredText(EnumChatFormat.GOLD + "Error message from yaml parser: " + e.getMessage()));
             List<String> suggestions = YamlAssist.getSuggestions(file);
@@ -65,7 +64,7 @@ public class YamlConfigurationFile extends ConfigurationFile {
                     tab.getPlatform().logInfo(TabComponent.fromColoredText(EnumChatFormat.LIGHT_PURPLE + "- " + suggestion));
                 }
             }
-            throw e;
+            throw new BrokenFileException(destination.getName(), e);
         }
     }
 
@@ -6,6 +6,7 @@ import java.io.InputStream;
 import java.util.*;
 
 import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.config.GroupKeyMatcher;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -14,16 +15,20 @@ import me.neznamy.tab.shared.TAB;
 
 public class YamlPropertyConfigurationFile extends YamlConfigurationFile implements PropertyConfiguration {
 
+    private static final String DEFAULT_GROUP = TabConstants.DEFAULT_GROUP.toLowerCase(Locale.US);
+
     private final String PER_SERVER = "per-server";
     private final String PER_WORLD = "per-world";
-    
+
     private final String category;
-    private final List<Object> worldGroups = new ArrayList<>(getConfigurationSection(PER_WORLD).keySet());
-    private final List<Object> serverGroups = new ArrayList<>(getConfigurationSection(PER_SERVER).keySet());
-    
+
+    /** Compiled content of the file, rebuilt on every change */
+    private volatile Index index;
+
     public YamlPropertyConfigurationFile(@Nullable InputStream source, @NotNull File destination) throws IOException {
         super(source, destination);
         category = destination.getName().contains("groups") ? "group" : "user";
+        index = new Index();
     }
 
     @Override
@@ -35,30 +40,37 @@ public class YamlPropertyConfigurationFile extends YamlConfigurationFile impleme
         } else {
             set(String.format("%s.%s", name, property), fromString(value));
         }
+        index = new Index();
     }
 
     @Override
-    public String[] getProperty(@NotNull String name, @NotNull String property, @Nullable String server, @Nullable String world) {
-        Object value;
-        if ((value = getObject(new String[] {PER_WORLD, TAB.getInstance().getConfiguration().getGroup(worldGroups, world), name, property})) != null) {
-            return new String[] {toString(value), category + "=" + name + ", world=" + world};
-        }
-        if ((value = getObject(new String[] {PER_WORLD, TAB.getInstance().getConfiguration().getGroup(worldGroups, world), TabConstants.DEFAULT_GROUP, property})) != null) {
-            return new String[] {toString(value), category + "=" + TabConstants.DEFAULT_GROUP + ", world=" + world};
-        }
-        if ((value = getObject(new String[] {PER_SERVER, TAB.getInstance().getConfiguration().getServerGroup(serverGroups, server), name, property})) != null) {
-            return new String[] {toString(value), category + "=" + name + ", server=" + server};
+    public @NotNull List<String> getProperty(@NotNull String name, @NotNull String property, @Nullable String server, @Nullable String world) {
+        Index index = this.index;
+        String lowercaseName = name.toLowerCase(Locale.US);
+        String lowercaseProperty = property.toLowerCase(Locale.US);
+        List<String> result;
+        Map<String, Map<String, List<String>>> worldSection = world == null ? null : index.perWorld.get(index.worldGroups.match(world));
+        if (worldSection != null) {
+            if ((result = get(worldSection, lowercaseName, lowercaseProperty)) != null) return result;
+            if ((result = get(worldSection, DEFAULT_GROUP, lowercaseProperty)) != null) return result;
         }
-        if ((value = getObject(new String[] {PER_SERVER, TAB.getInstance().getConfiguration().getServerGroup(serverGroups, server), TabConstants.DEFAULT_GROUP, property})) != null) {
-            return new String[] {toString(value), category + "=" + TabConstants.DEFAULT_GROUP + ", server=" + server};
+        if (server != null && !index.perServer.isEmpty()) {
+            Map<String, Map<String, List<String>>> serverSection = index.perServer.get(
+                    TAB.getInstance().getConfiguration().getServerGroup(index.serverGroups, server));
+            if (serverSection != null) {
+                if ((result = get(serverSection, lowercaseName, lowercaseProperty)) != null) return result;
+                if ((result = get(serverSection, DEFAULT_GROUP, lowercaseProperty)) != null) return result;
+            }
         }
-        if ((value = getObject(new String[] {name, property})) != null) {
-            return new String[] {toString(value), category + "=" + name};
-        }
-        if ((value = getObject(new String[] {TabConstants.DEFAULT_GROUP, property})) != null) {
-            return new String[] {toString(value), category + "=" + TabConstants.DEFAULT_GROUP};
-        }
-        return new String[0];
+        if ((result = get(index.global, lowercaseName, lowercaseProperty)) != null) return result;
+        if ((result = get(index.global, DEFAULT_GROUP, lowercaseProperty)) != null) return result;
+        return Collections.emptyList();
+    }
+
+    @Nullable
+    private List<String> get(@NotNull Map<String, Map<String, List<String>>> section, @NotNull String name, @NotNull String property) {
+        Map<String, List<String>> properties = section.get(name);
+        return properties == null ? null : properties.get(property);
     }
 
     @Override
@@ -66,6 +78,7 @@ public class YamlPropertyConfigurationFile extends YamlConfigurationFile impleme
         set(name, null);
         getConfigurationSection(PER_WORLD).keySet().forEach(world -> set(PER_WORLD + "." + world + "." + name, null));
         getConfigurationSection(PER_SERVER).keySet().forEach(server -> set(PER_SERVER + "." + server + "." + name, null));
+        index = new Index();
     }
 
     @Override
@@ -93,4 +106,61 @@ public class YamlPropertyConfigurationFile extends YamlConfigurationFile impleme
         perServer.values().forEach(m -> set.addAll(m.keySet()));
         return set;
     }
-}
\ No newline at end of file
+
+    /**
+     * Immutable snapshot of the file with all values converted to strings and
+     * paired with their source, so lookups only return prepared results. Group,
+     * user and property keys are lowercased to match case-insensitive behavior
+     * of {@link #getObject(String[])}.
+     */
+    private class Index {
+
+        /** Compiled keys of per-world section */
+        private final GroupKeyMatcher worldGroups;
+
+        /** Compiled keys of per-server section */
+        private final GroupKeyMatcher serverGroups;
+
+        /** Per-world results, key is per-world section key, then group / user, then property */
+        private final Map<String, Map<String, Map<String, List<String>>>> perWorld = new HashMap<>();
+
+        /** Per-server results, key is per-server section key, then group / user, then property */
+        private final Map<String, Map<String, Map<String, List<String>>>> perServer = new HashMap<>();
+
+        /** Global results, key is group / user, then property */
+        private final Map<String, Map<String, List<String>>> global = new HashMap<>();
+
+        private Index() {
+            Map<?, ?> worlds = getConfigurationSection(PER_WORLD);
+            Map<?, ?> servers = getConfigurationSection(PER_SERVER);
+            worldGroups = new GroupKeyMatcher(worlds.keySet());
+            serverGroups = new GroupKeyMatcher(servers.keySet());
+            compileScoped(worlds, perWorld, ", world=");
+            compileScoped(servers, perServer, ", server=");
+            compileNames(values, global, "");
+        }
+
+        private void compileScoped(@NotNull Map<?, ?> section, @NotNull Map<String, Map<String, Map<String, List<String>>>> target,
+                                   @NotNull String scopeType) {
+            for (Map.Entry<?, ?> scope : section.entrySet()) {
+                if (!(scope.getValue() instanceof Map)) continue;
+                String key = String.valueOf(scope.getKey());
+                compileNames((Map<?, ?>) scope.getValue(), target.computeIfAbsent(key, s -> new HashMap<>()), scopeType + key);
+            }
+        }
+
+        private void compileNames(@NotNull Map<?, ?> section, @NotNull Map<String, Map<String, List<String>>> target, @NotNull String scope) {
+            for (Map.Entry<?, ?> entry : section.entrySet()) {
+                String name = String.valueOf(entry.getKey());
+                if (name.equals(PER_WORLD) || name.equals(PER_SERVER) || !(entry.getValue() instanceof Map)) continue;
+                String source = category + "=" + name + scope;
+                Map<String, List<String>> properties = target.computeIfAbsent(name.toLowerCase(Locale.US), n -> new HashMap<>());
+                for (Map.Entry<?, ?> property : ((Map<?, ?>) entry.getValue()).entrySet()) {
+                    if (property.getValue() == null) continue;
+                    properties.putIfAbsent(String.valueOf(property.getKey()).toLowerCase(Locale.US), Collections.unmodifiableList(Arrays.asList(
+                            YamlPropertyConfigurationFile.this.toString(property.getValue()), source)));
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package me.neznamy.tab.shared.config.helper;
 
 import me.neznamy.tab.api.bossbar.BarColor;
 import me.neznamy.tab.api.bossbar.BarStyle;
+import me.neznamy.tab.shared.ErrorManager;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.chat.TabComponent;
@@ -368,9 +369,11 @@ public class StartupWarnPrinter {
     }
 
     public void checkErrorLog() {
-        File errorLog = TAB.getInstance().getErrorManager().getErrorLog();
-        if (errorLog.length() > TabConstants.MAX_LOG_SIZE) {
-            startupWarn("File " + errorLog.getPath() + " has reached its size limit (1MB). No new errors will be logged. " +
+        ErrorManager errorManager = TAB.getInstance().getErrorManager();
+        if (errorManager.pollRotated(errorManager.getErrorLog())) {
+            File rotatedErrorLog = errorManager.getRotatedFile(errorManager.getErrorLog());
+            startupWarn("File " + errorManager.getErrorLog().getPath() + " has reached its size limit (1MB) " +
+                    "and older errors were moved into " + rotatedErrorLog.getPath() + ". " +
                     "Take a look at the existing reported errors, as they may have caused the plugin to not work properly " +
                     "in the past and if not fixed, will most likely cause problems in the future as well.");
         }
@@ -62,28 +62,28 @@ public class MySQLGroupConfiguration implements PropertyConfiguration {
     }
 
     @Override
-    public String[] getProperty(@NotNull String group, @NotNull String property, @Nullable String server, @Nullable String world) {
+    public @NotNull List<String> getProperty(@NotNull String group, @NotNull String property, @Nullable String server, @Nullable String world) {
         String lowercaseGroup = group.equals(TabConstants.DEFAULT_GROUP) ? group : group.toLowerCase(Locale.US);
         Object value;
         if ((value = perWorld.getOrDefault(world, new HashMap<>()).getOrDefault(lowercaseGroup, new HashMap<>()).get(property)) != null) {
-            return new String[] {toString(value), String.format("group=%s,world=%s", lowercaseGroup, world)};
+            return Collections.unmodifiableList(Arrays.asList(toString(value), String.format("group=%s,world=%s", lowercaseGroup, world)));
         }
         if ((value = perWorld.getOrDefault(world, new HashMap<>()).getOrDefault(TabConstants.DEFAULT_GROUP, new HashMap<>()).get(property)) != null) {
-            return new String[] {toString(value), String.format("group=%s,world=%s", TabConstants.DEFAULT_GROUP, world)};
+            return Collections.unmodifiableList(Arrays.asList(toString(value), String.format("group=%s,world=%s", TabConstants.DEFAULT_GROUP, world)));
         }
         if ((value = perServer.getOrDefault(server, new HashMap<>()).getOrDefault(lowercaseGroup, new HashMap<>()).get(property)) != null) {
-            return new String[] {toString(value), String.format("group=%s,server=%s", lowercaseGroup, server)};
+            return Collections.unmodifiableList(Arrays.asList(toString(value), String.format("group=%s,server=%s", lowercaseGroup, server)));
         }
         if ((value = perServer.getOrDefault(server, new HashMap<>()).getOrDefault(TabConstants.DEFAULT_GROUP, new HashMap<>()).get(property)) != null) {
-            return new String[] {toString(value), String.format("group=%s,server=%s", TabConstants.DEFAULT_GROUP, server)};
+            return Collections.unmodifiableList(Arrays.asList(toString(value), String.format("group=%s,server=%s", TabConstants.DEFAULT_GROUP, server)));
         }
         if ((value = values.getOrDefault(lowercaseGroup, new HashMap<>()).get(property)) != null) {
-            return new String[] {toString(value), String.format("group=%s", lowercaseGroup)};
+            return Collections.unmodifiableList(Arrays.asList(toString(value), String.format("group=%s", lowercaseGroup)));
         }
         if ((value = values.getOrDefault(TabConstants.DEFAULT_GROUP, new HashMap<>()).get(property)) != null) {
-            return new String[] {toString(value), String.format("group=%s", TabConstants.DEFAULT_GROUP)};
+            return Collections.unmodifiableList(Arrays.asList(toString(value), String.format("group=%s", TabConstants.DEFAULT_GROUP)));
         }
-        return new String[0];
+        return Collections.emptyList();
     }
 
     @Override
@@ -54,19 +54,19 @@ public class MySQLUserConfiguration implements PropertyConfiguration {
     }
 
     @Override
-    public String[] getProperty(@NotNull String user, @NotNull String property, @Nullable String server, @Nullable String world) {
+    public @NotNull List<String> getProperty(@NotNull String user, @NotNull String property, @Nullable String server, @Nullable String world) {
         TabPlayer p = getPlayer(user);
         Object value;
         if ((value = perWorld.getOrDefault(world, new WeakHashMap<>()).getOrDefault(p, new HashMap<>()).get(property)) != null) {
-            return new String[] {toString(value), String.format("user=%s,world=%s", user, world)};
+            return Collections.unmodifiableList(Arrays.asList(toString(value), String.format("user=%s,world=%s", user, world)));
         }
         if ((value = perServer.getOrDefault(server, new WeakHashMap<>()).getOrDefault(p, new HashMap<>()).get(property)) != null) {
-            return new String[] {toString(value), String.format("user=%s,server=%s", user, server)};
+            return Collections.unmodifiableList(Arrays.asList(toString(value), String.format("user=%s,server=%s", user, server)));
         }
         if ((value = values.getOrDefault(p, new HashMap<>()).get(property)) != null) {
-            return new String[] {toString(value), String.format("user=%s", user)};
+            return Collections.unmodifiableList(Arrays.asList(toString(value), String.format("user=%s", user)));
         }
-        return new String[0];
+        return Collections.emptyList();
     }
 
     @Override
@@ -0,0 +1,112 @@
+package me.neznamy.tab.shared.config.toggle;
+
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.config.file.ConfigurationFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Toggle store using playerdata.yml as snapshot and an append-only journal file
+ * for changes made since the last snapshot. Every change appends a single line
+ * to the journal instead of rewriting the entire file. Once the journal grows large
+ * enough or the store is closed, it is compacted into the snapshot.
+ * <p>
+ * Journal lines are in format {@code +toggle:player} for toggled and
+ * {@code -toggle:player} for no longer toggled players.
+ */
+public class FileToggleStore extends ToggleStore {
+
+    /** Amount of journal entries after which journal is compacted into the snapshot */
+    private static final int COMPACT_THRESHOLD = 1000;
+
+    /** Snapshot file */
+    @NotNull
+    private final ConfigurationFile snapshot;
+
+    /** Journal file with changes since last snapshot */
+    @NotNull
+    private final File journal;
+
+    /** Amount of entries in the journal */
+    private int journalSize;
+
+    /**
+     * Constructs new instance, loads snapshot and replays journal on top of it.
+     *
+     * @param   snapshot
+     *          Snapshot file
+     * @param   journal
+     *          Journal file
+     */
+    public FileToggleStore(@NotNull ConfigurationFile snapshot, @NotNull File journal) {
+        this.snapshot = snapshot;
+        this.journal = journal;
+        for (Map.Entry<String, Object> entry : snapshot.getValues().entrySet()) {
+            if (!(entry.getValue() instanceof List)) continue;
+            Set<String> players = getPlayers(entry.getKey());
+            for (Object player : (List<?>) entry.getValue()) {
+                players.add(String.valueOf(player));
+            }
+        }
+        if (!journal.exists()) return;
+        try {
+            for (String line : Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(':');
+                if (line.length() < 2 || separator == -1) continue;
+                Set<String> players = getPlayers(line.substring(1, separator));
+                String player = line.substring(separator + 1);
+                if (line.charAt(0) == '+') {
+                    players.add(player);
+                } else {
+                    players.remove(player);
+                }
+                journalSize++;
+            }
+        } catch (IOException e) {
+            TAB.getInstance().getErrorManager().criticalError("Failed to read " + journal.getName(), e);
+        }
+        if (journalSize > 0) compact();
+    }
+
+    @Override
+    protected synchronized void persist(@NotNull String toggle, @NotNull String player, boolean toggled) {
+        try {
+            Files.write(journal.toPath(), Collections.singletonList((toggled ? "+" : "-") + toggle + ":" + player),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (++journalSize >= COMPACT_THRESHOLD) compact();
+        } catch (IOException e) {
+            TAB.getInstance().getErrorManager().criticalError("Failed to write into " + journal.getName(), e);
+        }
+    }
+
+    /**
+     * Writes current state into the snapshot and clears the journal.
+     */
+    private synchronized void compact() {
+        for (Map.Entry<String, Set<String>> entry : getToggles().entrySet()) {
+            snapshot.getValues().put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        snapshot.save();
+        try {
+            Files.deleteIfExists(journal.toPath());
+            journalSize = 0;
+        } catch (IOException e) {
+            TAB.getInstance().getErrorManager().criticalError("Failed to clear " + journal.getName(), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (journalSize > 0) compact();
+    }
+}
@@ -0,0 +1,67 @@
+package me.neznamy.tab.shared.config.toggle;
+
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.config.mysql.MySQL;
+import org.jetbrains.annotations.NotNull;
+
+import javax.sql.rowset.CachedRowSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Toggle store saving toggled players into MySQL, where each
+ * change inserts or deletes a single row.
+ */
+public class MySQLToggleStore extends ToggleStore {
+
+    @NotNull
+    private final MySQL mysql;
+
+    /**
+     * Constructs new instance, creates table if needed and loads all toggled players.
+     * If the table did not exist yet, toggle choices of previous store are imported into it.
+     *
+     * @param   mysql
+     *          MySQL connection
+     * @param   previousStore
+     *          Store used before switching to MySQL to import choices from
+     * @throws  SQLException
+     *          If query fails
+     */
+    public MySQLToggleStore(@NotNull MySQL mysql, @NotNull Supplier<ToggleStore> previousStore) throws SQLException {
+        this.mysql = mysql;
+        boolean created = !mysql.getCRS("show tables like 'tab_toggles'").next();
+        mysql.execute("create table if not exists tab_toggles (`toggle` varchar(32), `player` varchar(64))");
+        if (created) {
+            for (Map.Entry<String, Set<String>> entry : previousStore.get().getToggles().entrySet()) {
+                for (String player : entry.getValue()) {
+                    mysql.execute("insert into `tab_toggles` (`toggle`, `player`) values (?, ?)", entry.getKey(), player);
+                }
+            }
+        }
+        CachedRowSet crs = mysql.getCRS("select * from `tab_toggles`");
+        while (crs.next()) {
+            getPlayers(crs.getString("toggle")).add(crs.getString("player"));
+        }
+    }
+
+    @Override
+    protected void persist(@NotNull String toggle, @NotNull String player, boolean toggled) {
+        try {
+            if (toggled) {
+                mysql.execute("insert into `tab_toggles` (`toggle`, `player`) values (?, ?)", toggle, player);
+            } else {
+                mysql.execute("delete from `tab_toggles` where `toggle` = ? and `player` = ?", toggle, player);
+            }
+        } catch (SQLException e) {
+            TAB.getInstance().getErrorManager().mysqlQueryFailed(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Every change is written immediately
+    }
+}
@@ -0,0 +1,88 @@
+package me.neznamy.tab.shared.config.toggle;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Storage of players who toggled a feature away from its default state,
+ * such as players who turned off scoreboard or bossbar. Membership is kept
+ * in memory for constant-time lookups and only changes are persisted.
+ */
+public abstract class ToggleStore {
+
+    /** Toggled players, key is toggle name */
+    private final Map<String, Set<String>> toggles = new ConcurrentHashMap<>();
+
+    /**
+     * Returns {@code true} if player is toggled in specified toggle, {@code false} if not.
+     *
+     * @param   toggle
+     *          Name of the toggle
+     * @param   player
+     *          Name of the player
+     * @return  {@code true} if player is toggled, {@code false} if not
+     */
+    public boolean contains(@NotNull String toggle, @NotNull String player) {
+        Set<String> players = toggles.get(toggle);
+        return players != null && players.contains(player);
+    }
+
+    /**
+     * Sets toggle status of player and persists it if it changed.
+     *
+     * @param   toggle
+     *          Name of the toggle
+     * @param   player
+     *          Name of the player
+     * @param   toggled
+     *          {@code true} if player should be toggled, {@code false} if not
+     */
+    public synchronized void set(@NotNull String toggle, @NotNull String player, boolean toggled) {
+        Set<String> players = getPlayers(toggle);
+        if (toggled ? players.add(player) : players.remove(player)) {
+            persist(toggle, player, toggled);
+        }
+    }
+
+    /**
+     * Returns modifiable set of toggled players in specified toggle.
+     *
+     * @param   toggle
+     *          Name of the toggle
+     * @return  Set of toggled players
+     */
+    @NotNull
+    protected Set<String> getPlayers(@NotNull String toggle) {
+        return toggles.computeIfAbsent(toggle, t -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Returns all toggles with toggled players.
+     *
+     * @return  All toggles with toggled players
+     */
+    @NotNull
+    protected Map<String, Set<String>> getToggles() {
+        return toggles;
+    }
+
+    /**
+     * Persists change of toggle status of a player.
+     *
+     * @param   toggle
+     *          Name of the toggle
+     * @param   player
+     *          Name of the player
+     * @param   toggled
+     *          New toggle status
+     */
+    protected abstract void persist(@NotNull String toggle, @NotNull String player, boolean toggled);
+
+    /**
+     * Writes any pending data. Called when the plugin is unloaded or reloaded.
+     */
+    public abstract void close();
+}
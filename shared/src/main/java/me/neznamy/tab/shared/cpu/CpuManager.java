@@ -36,6 +36,11 @@ public class CpuManager {
     private final ScheduledExecutorService placeholderThread = Executors.newSingleThreadScheduledExecutor(
             new ThreadFactoryBuilder().setNameFormat("TAB Placeholder Refreshing Thread").build());
 
+    /** Scheduler for placeholders exceeding their refresh time budget to not delay other placeholders */
+    @Getter
+    private final ScheduledExecutorService slowPlaceholderThread = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("TAB Slow Placeholder Refreshing Thread").build());
+
     /** Tasks submitted to main thread before plugin was fully enabled */
     private final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
 
@@ -68,6 +73,7 @@ public class CpuManager {
     public void cancelAllTasks() {
         processingThread.shutdownNow();
         placeholderThread.shutdownNow();
+        slowPlaceholderThread.shutdownNow();
     }
 
     /**
@@ -141,9 +147,10 @@ public class CpuManager {
         submit(task);
     }
 
-    public void startRepeatingMeasuredTask(int intervalMilliseconds, @NotNull String feature, @NotNull String type, @NotNull Runnable task) {
-        if (processingThread.isShutdown()) return;
-        processingThread.scheduleAtFixedRate(() -> runAndMeasure(task, feature, type), intervalMilliseconds, intervalMilliseconds, TimeUnit.MILLISECONDS);
+    @Nullable
+    public Future<?> startRepeatingMeasuredTask(int intervalMilliseconds, @NotNull String feature, @NotNull String type, @NotNull Runnable task) {
+        if (processingThread.isShutdown()) return null;
+        return processingThread.scheduleAtFixedRate(() -> runAndMeasure(task, feature, type), intervalMilliseconds, intervalMilliseconds, TimeUnit.MILLISECONDS);
     }
 
     public void startRepeatingTask(int intervalMilliseconds, @NotNull Runnable task) {
@@ -0,0 +1,82 @@
+package me.neznamy.tab.shared.cpu;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timings of the last plugin load, split into load phases and
+ * loading of individual features to make slow parts visible.
+ */
+@Getter
+public class StartupReport {
+
+    /** Time when load started in nanoseconds */
+    private final long startTime = System.nanoTime();
+
+    /** Duration of each phase in milliseconds, in order of completion */
+    @NotNull private final Map<String, Long> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /** Duration of loading each feature in milliseconds, in order of completion */
+    @NotNull private final Map<String, Long> features = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /** Total load duration in milliseconds, {@code -1} if load did not finish yet */
+    private long totalTime = -1;
+
+    /**
+     * Records duration of a completed phase and returns current time,
+     * which can be used as start time of the next phase.
+     *
+     * @param   phase
+     *          Name of completed phase
+     * @param   start
+     *          Time when the phase started in nanoseconds
+     * @return  Current time in nanoseconds
+     */
+    public long completePhase(@NotNull String phase, long start) {
+        long now = System.nanoTime();
+        phases.put(phase, TimeUnit.NANOSECONDS.toMillis(now - start));
+        return now;
+    }
+
+    /**
+     * Records duration of loading a feature.
+     *
+     * @param   feature
+     *          Name of the feature
+     * @param   start
+     *          Time when the feature started loading in nanoseconds
+     */
+    public void completeFeature(@NotNull String feature, long start) {
+        features.put(feature, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Marks the load as finished and returns total duration.
+     *
+     * @return  Total load duration in milliseconds
+     */
+    public long finish() {
+        totalTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        return totalTime;
+    }
+
+    /**
+     * Returns features ordered by load duration, slowest first.
+     *
+     * @param   limit
+     *          Maximum amount of features to return
+     * @return  Slowest features with their load duration in milliseconds
+     */
+    @NotNull
+    public List<Map.Entry<String, Long>> getSlowestFeatures(int limit) {
+        List<Map.Entry<String, Long>> sorted;
+        synchronized (features) {
+            sorted = new ArrayList<>(features.entrySet());
+        }
+        sorted.sort(Map.Entry.comparingByValue(Comparator.reverseOrder()));
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+}
@@ -111,15 +111,17 @@ public class GlobalPlayerList extends TabFeature implements JoinListener, QuitLi
 
     @Override
     public void onJoin(@NotNull TabPlayer connectedPlayer) {
+        List<TabList.Entry> entries = new ArrayList<>();
         for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
             if (connectedPlayer.getServer().equals(all.getServer())) continue;
             if (shouldSee(all, connectedPlayer)) {
                 all.getTabList().addEntry(getAddInfoData(connectedPlayer, all));
             }
             if (shouldSee(connectedPlayer, all)) {
-                connectedPlayer.getTabList().addEntry(getAddInfoData(all, connectedPlayer));
+                entries.add(getAddInfoData(all, connectedPlayer));
             }
         }
+        if (!entries.isEmpty()) connectedPlayer.getTabList().addEntries(entries);
     }
 
     @Override
@@ -149,12 +151,14 @@ public class GlobalPlayerList extends TabFeature implements JoinListener, QuitLi
 
     @Override
     public void onTabListClear(@NotNull TabPlayer player) {
+        List<TabList.Entry> entries = new ArrayList<>();
         for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
             // Ignore players on the same server, since the server already sends add packet
             if (!all.getServer().equals(player.getServer()) && shouldSee(player, all)) {
-                player.getTabList().addEntry(getAddInfoData(all, player));
+                entries.add(getAddInfoData(all, player));
             }
         }
+        if (!entries.isEmpty()) player.getTabList().addEntries(entries);
     }
 
     /**
@@ -189,7 +193,7 @@ public class GlobalPlayerList extends TabFeature implements JoinListener, QuitLi
     public void onGameModeChange(@NotNull TabPlayer player) {
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
             if (!player.getServer().equals(viewer.getServer())) {
-                viewer.getTabList().updateGameMode(player.getTablistId(), othersAsSpectators ? 3 : player.getGamemode());
+                viewer.getTabList().queueGameMode(player.getTablistId(), othersAsSpectators ? 3 : player.getGamemode());
             }
         }
     }
@@ -230,7 +234,7 @@ public class GlobalPlayerList extends TabFeature implements JoinListener, QuitLi
         //player ping changed, must manually update latency for players on other servers
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
             if (!refreshed.getServer().equals(viewer.getServer()) && viewer.getTabList().containsEntry(refreshed.getTablistId())) {
-                viewer.getTabList().updateLatency(refreshed.getTablistId(), refreshed.getPing());
+                viewer.getTabList().queueLatency(refreshed.getTablistId(), refreshed.getPing());
             }
         }
     }
@@ -5,14 +5,17 @@ import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.chat.SimpleComponent;
 import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.config.GroupKeyMatcher;
 import me.neznamy.tab.shared.placeholders.conditions.Condition;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.types.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * Feature handler for header and footer.
@@ -20,8 +23,17 @@ import java.util.List;
 public class HeaderFooter extends TabFeature implements HeaderFooterManager, JoinListener, Loadable, UnLoadable,
         WorldSwitchListener, ServerSwitchListener, Refreshable {
 
-    private final List<Object> worldGroups = new ArrayList<>(config().getConfigurationSection("header-footer.per-world").keySet());
-    private final List<Object> serverGroups = new ArrayList<>(config().getConfigurationSection("header-footer.per-server").keySet());
+    private final GroupKeyMatcher worldGroups = new GroupKeyMatcher(config().getConfigurationSection("header-footer.per-world").keySet());
+    private final GroupKeyMatcher serverGroups = new GroupKeyMatcher(config().getConfigurationSection("header-footer.per-server").keySet());
+
+    /** Configured per-world values joined into a single string, key is per-world section key, then property */
+    private final Map<String, Map<String, String>> perWorld = compileSections(config().getConfigurationSection("header-footer.per-world"));
+
+    /** Configured per-server values joined into a single string, key is per-server section key, then property */
+    private final Map<String, Map<String, String>> perServer = compileSections(config().getConfigurationSection("header-footer.per-server"));
+
+    /** Configured global values joined into a single string, key is property */
+    private final Map<String, String> global = compileSection(config().getConfigurationSection("header-footer"));
     private final DisableChecker disableChecker;
 
     /**
@@ -116,27 +128,73 @@ public class HeaderFooter extends TabFeature implements HeaderFooterManager, Joi
     }
 
     private String getFromConfig(TabPlayer p, String property) {
-        String[] value = TAB.getInstance().getConfiguration().getUsers().getProperty(p.getName(), property, p.getServer(), p.getWorld());
-        if (value.length > 0) {
-            return value[0];
+        List<String> value = TAB.getInstance().getConfiguration().getUsers().getProperty(p.getName(), property, p.getServer(), p.getWorld());
+        if (!value.isEmpty()) {
+            return value.get(0);
         }
         value = TAB.getInstance().getConfiguration().getUsers().getProperty(p.getUniqueId().toString(), property, p.getServer(), p.getWorld());
-        if (value.length > 0) {
-            return value[0];
+        if (!value.isEmpty()) {
+            return value.get(0);
         }
         value = TAB.getInstance().getConfiguration().getGroups().getProperty(p.getGroup(), property, p.getServer(), p.getWorld());
-        if (value.length > 0) {
-            return value[0];
+        if (!value.isEmpty()) {
+            return value.get(0);
         }
-        List<String> lines = config().getStringList("header-footer.per-world." + TAB.getInstance().getConfiguration().getGroup(worldGroups, p.getWorld()) + "." + property);
+        String lines = get(perWorld, worldGroups.match(p.getWorld()), property);
         if (lines == null) {
-            lines = config().getStringList("header-footer.per-server." + TAB.getInstance().getConfiguration().getServerGroup(serverGroups, p.getServer()) + "." + property);
+            lines = get(perServer, TAB.getInstance().getConfiguration().getServerGroup(serverGroups, p.getServer()), property);
         }
         if (lines == null) {
-            lines = config().getStringList("header-footer." + property);
+            lines = global.get(property);
+        }
+        return lines == null ? "" : lines;
+    }
+
+    @Nullable
+    private String get(@NotNull Map<String, Map<String, String>> sections, @Nullable String key, @NotNull String property) {
+        if (key == null) return null;
+        Map<String, String> section = sections.get(key);
+        return section == null ? null : section.get(property);
+    }
+
+    /**
+     * Compiles per-world or per-server section into a case-insensitive map of compiled sections.
+     *
+     * @param   sections
+     *          Per-world or per-server section
+     * @return  Compiled sections
+     */
+    @NotNull
+    private Map<String, Map<String, String>> compileSections(@NotNull Map<?, ?> sections) {
+        Map<String, Map<String, String>> compiled = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<?, ?> entry : sections.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                compiled.putIfAbsent(String.valueOf(entry.getKey()), compileSection((Map<?, ?>) entry.getValue()));
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles a section into a case-insensitive map of lines joined with {@code \n}.
+     * Values which are not a list are compiled into an empty string.
+     *
+     * @param   section
+     *          Section to compile
+     * @return  Compiled section
+     */
+    @NotNull
+    private Map<String, String> compileSection(@NotNull Map<?, ?> section) {
+        Map<String, String> compiled = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<?, ?> entry : section.entrySet()) {
+            if (entry.getValue() == null || entry.getValue() instanceof Map) continue;
+            String value = "";
+            if (entry.getValue() instanceof List) {
+                value = ((List<?>) entry.getValue()).stream().map(String::valueOf).collect(Collectors.joining("\n"));
+            }
+            compiled.putIfAbsent(String.valueOf(entry.getKey()), value);
         }
-        if (lines == null) lines = new ArrayList<>();
-        return String.join("\n", lines);
+        return compiled;
     }
 
     private void sendHeaderFooter(TabPlayer player, String header, String footer) {
@@ -44,92 +44,105 @@ public class NickCompatibility extends TabFeature implements EntryAddListener {
         // For some very specific complicated plugins this may need to be different, either changing == to !=
         //      or completely removing the check. However, only this option worked for both nick plugins I tested.
         if (packetPlayer != null && packetPlayer == packetReceiver && !packetPlayer.getNickname().equals(name)) {
+            String oldName = packetPlayer.getNickname();
             packetPlayer.setNickname(name);
             TAB.getInstance().debug("Processing name change of player " + packetPlayer.getName() + " to " + name);
-            processNameChange(packetPlayer);
+            processNameChange(packetPlayer, oldName);
         }
         if (redis != null) {
             RedisPlayer redisPlayer = redis.getRedisPlayers().get(id);
             if (redisPlayer == null) return;
             if (!redisPlayer.getNickname().equals(name)) {
+                String oldName = redisPlayer.getNickname();
                 redisPlayer.setNickname(name);
                 TAB.getInstance().debug("Processing name change of redis player " + redisPlayer.getName() + " to " + name);
-                processNameChange(redisPlayer);
+                processNameChange(redisPlayer, oldName);
             }
         }
     }
 
     /**
-     * Processes name change in all features.
+     * Processes name change in all features. Values which do not depend on viewer
+     * are computed once and every viewer is then updated in a single pass. If viewer's
+     * scoreboard supports it, only the team member is replaced instead of re-registering
+     * the whole team.
      *
      * @param   player
-     *          Player to update in all features
+     *          Player to update in all features, with new nickname already set
+     * @param   oldName
+     *          Nickname the player had before
      */
-    public void processNameChange(@NotNull TabPlayer player) {
+    public void processNameChange(@NotNull TabPlayer player, @NotNull String oldName) {
         TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.NICK_PLUGIN_COMPATIBILITY, () -> {
-            if (nameTags != null && !nameTags.hasTeamHandlingPaused(player))
-                for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
-                    String prefix = player.getProperty(TabConstants.Property.TAGPREFIX).getFormat(viewer);
-                    viewer.getScoreboard().unregisterTeam(player.sortingData.getShortTeamName());
-                    viewer.getScoreboard().registerTeam(
-                            player.sortingData.getShortTeamName(),
-                            prefix,
-                            player.getProperty(TabConstants.Property.TAGSUFFIX).getFormat(viewer),
-                            nameTags.getTeamVisibility(player, viewer) ? Scoreboard.NameVisibility.ALWAYS : Scoreboard.NameVisibility.NEVER,
-                            player.teamData.getCollisionRule() ? Scoreboard.CollisionRule.ALWAYS : Scoreboard.CollisionRule.NEVER,
-                            Collections.singletonList(player.getNickname()),
-                            nameTags.getTeamOptions(),
-                            EnumChatFormat.lastColorsOf(prefix)
-                    );
-                }
-            if (belowname != null) {
-                int value = belowname.getValue(player);
-                for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
-                    belowname.setScore(viewer, player, value, player.getProperty(belowname.getFANCY_FORMAT_PROPERTY()).get());
+            String nickname = player.getNickname();
+            boolean teams = nameTags != null && !nameTags.hasTeamHandlingPaused(player);
+            String teamName = player.sortingData.getShortTeamName();
+            int belowNameValue = belowname == null ? 0 : belowname.getValue(player);
+            String belowNameFancy = belowname == null ? null : player.getProperty(belowname.getFANCY_FORMAT_PROPERTY()).get();
+            int yellowNumberValue = yellownumber == null ? 0 : yellownumber.getValueNumber(player);
+            String yellowNumberFancy = yellownumber == null ? null : player.getProperty(yellownumber.getPROPERTY_VALUE_FANCY()).get();
+            for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
+                Scoreboard<?, ?> scoreboard = viewer.getScoreboard();
+                if (teams) {
+                    if (scoreboard.supportsTeamMemberChanges()) {
+                        if (scoreboard.containsTeam(teamName)) scoreboard.renameTeamMember(teamName, oldName, nickname);
+                    } else {
+                        String prefix = player.getProperty(TabConstants.Property.TAGPREFIX).getFormat(viewer);
+                        scoreboard.unregisterTeam(teamName);
+                        scoreboard.registerTeam(
+                                teamName,
+                                prefix,
+                                player.getProperty(TabConstants.Property.TAGSUFFIX).getFormat(viewer),
+                                nameTags.getTeamVisibility(player, viewer) ? Scoreboard.NameVisibility.ALWAYS : Scoreboard.NameVisibility.NEVER,
+                                player.teamData.getCollisionRule() ? Scoreboard.CollisionRule.ALWAYS : Scoreboard.CollisionRule.NEVER,
+                                Collections.singletonList(nickname),
+                                nameTags.getTeamOptions(),
+                                EnumChatFormat.lastColorsOf(prefix)
+                        );
+                    }
                 }
-            }
-            if (yellownumber != null) {
-                int value = yellownumber.getValueNumber(player);
-                for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers())
-                    yellownumber.setScore(viewer, player, value, player.getProperty(yellownumber.getPROPERTY_VALUE_FANCY()).get());
+                if (belowname != null) belowname.setScore(viewer, player, belowNameValue, belowNameFancy);
+                if (yellownumber != null) yellownumber.setScore(viewer, player, yellowNumberValue, yellowNumberFancy);
             }
         });
     }
 
-    private void processNameChange(RedisPlayer player) {
+    private void processNameChange(@NotNull RedisPlayer player, @NotNull String oldName) {
         TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.NICK_PLUGIN_COMPATIBILITY, () -> {
-            if (redisTeams != null) {
-                String teamName = player.getTeamName();
-                for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
-                    viewer.getScoreboard().unregisterTeam(teamName);
-                    viewer.getScoreboard().registerTeam(
-                            teamName,
-                            player.getTagPrefix(),
-                            player.getTagSuffix(),
-                            player.getNameVisibility(),
-                            Scoreboard.CollisionRule.ALWAYS,
-                            Collections.singletonList(player.getNickname()),
-                            redisTeams.getNameTags().getTeamOptions(),
-                            EnumChatFormat.lastColorsOf(player.getTagPrefix())
-                    );
+            String nickname = player.getNickname();
+            String teamName = player.getTeamName();
+            for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
+                Scoreboard<?, ?> scoreboard = viewer.getScoreboard();
+                if (redisTeams != null) {
+                    if (scoreboard.supportsTeamMemberChanges()) {
+                        if (scoreboard.containsTeam(teamName)) scoreboard.renameTeamMember(teamName, oldName, nickname);
+                    } else {
+                        scoreboard.unregisterTeam(teamName);
+                        scoreboard.registerTeam(
+                                teamName,
+                                player.getTagPrefix(),
+                                player.getTagSuffix(),
+                                player.getNameVisibility(),
+                                Scoreboard.CollisionRule.ALWAYS,
+                                Collections.singletonList(nickname),
+                                redisTeams.getNameTags().getTeamOptions(),
+                                EnumChatFormat.lastColorsOf(player.getTagPrefix())
+                        );
+                    }
                 }
-            }
-            if (redisBelowName != null) {
-                for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-                    all.getScoreboard().setScore(
+                if (redisBelowName != null) {
+                    scoreboard.setScore(
                             BelowName.OBJECTIVE_NAME,
-                            player.getNickname(),
+                            nickname,
                             player.getBelowNameNumber(),
                             null, // Unused by this objective slot
                             player.getBelowNameFancy()
                     );
                 }
-            }
-            if (redisYellowNumber != null) {
-                for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-                    all.getScoreboard().setScore(
+                if (redisYellowNumber != null) {
+                    scoreboard.setScore(
                             YellowNumber.OBJECTIVE_NAME,
-                            player.getNickname(),
+                            nickname,
                             player.getPlayerlistNumber(),
                             null, // Unused by this objective slot
                             player.getPlayerlistFancy()
@@ -6,9 +6,12 @@ import me.neznamy.tab.shared.features.layout.LayoutManagerImpl;
 import me.neznamy.tab.shared.features.layout.ParentGroup;
 import me.neznamy.tab.shared.features.layout.PlayerSlot;
 import me.neznamy.tab.shared.features.types.*;
+import me.neznamy.tab.shared.platform.TabList;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -49,17 +52,21 @@ public class PingSpoof extends TabFeature implements JoinListener, LatencyListen
 
     @Override
     public void onJoin(@NotNull TabPlayer connectedPlayer) {
+        List<TabList.Entry> entries = new ArrayList<>();
         for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-            connectedPlayer.getTabList().updateLatency(all.getTablistId(), value);
-            all.getTabList().updateLatency(connectedPlayer.getTablistId(), value);
+            entries.add(TabList.Entry.latency(all.getTablistId(), value));
+            all.getTabList().queueLatency(connectedPlayer.getTablistId(), value);
         }
+        connectedPlayer.getTabList().updateLatencies(entries);
     }
 
     private void updateAll(boolean realPing) {
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
+            List<TabList.Entry> entries = new ArrayList<>();
             for (TabPlayer target : TAB.getInstance().getOnlinePlayers()) {
-                viewer.getTabList().updateLatency(target.getTablistId(), realPing ? target.getPing() : value);
+                entries.add(TabList.Entry.latency(target.getTablistId(), realPing ? target.getPing() : value));
             }
+            viewer.getTabList().updateLatencies(entries);
         }
     }
 
@@ -6,8 +6,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import lombok.Getter;
 import lombok.NonNull;
@@ -17,9 +16,12 @@ import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants.CpuUsageCategory;
 import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.placeholders.AdaptiveRefresh;
+import me.neznamy.tab.shared.placeholders.PlaceholderBudget;
 import me.neznamy.tab.shared.placeholders.PlaceholderRefreshTask;
 import me.neznamy.tab.shared.placeholders.expansion.EmptyTabExpansion;
 import me.neznamy.tab.shared.platform.TabPlayer;
+import me.neznamy.tab.shared.proxy.ProxyPlatform;
 import me.neznamy.tab.shared.event.impl.TabPlaceholderRegisterEvent;
 import me.neznamy.tab.shared.features.types.*;
 import me.neznamy.tab.shared.placeholders.types.PlayerPlaceholderImpl;
@@ -36,18 +38,35 @@ import org.jetbrains.annotations.Nullable;
 public class PlaceholderManagerImpl extends TabFeature implements PlaceholderManager, JoinListener, Loadable,
         Refreshable {
 
-    private final Pattern placeholderPattern = Pattern.compile("%([^%]*)%");
-
     private final boolean registerExpansion = config().getBoolean("placeholders.register-tab-expansion", true);
     private final Map<String, Integer> refreshIntervals = config().getConfigurationSection("placeholderapi-refresh-intervals");
     private final int defaultRefresh;
 
+    /** Adaptive refresh intervals, {@code null} if disabled */
+    @Nullable @Getter private final AdaptiveRefresh adaptiveRefresh = config().getBoolean("placeholders.adaptive-refresh.enabled", false) ?
+            new AdaptiveRefresh(config().getInt("placeholders.adaptive-refresh.max-refresh-interval", 10000)) : null;
+
+    /** Refresh time budget of placeholders, {@code null} if disabled */
+    @Nullable @Getter private final PlaceholderBudget refreshBudget = config().getBoolean("placeholders.refresh-budget.enabled", true) ?
+            new PlaceholderBudget(config().getInt("placeholders.refresh-budget.budget", 50),
+                    config().getInt("placeholders.refresh-budget.value-budget", 10), config().getInt("placeholders.refresh-budget.cooldown", 60)) : null;
+
+    /** Identifiers of isolated placeholders currently being refreshed */
+    private final Set<String> isolatedRefreshing = ConcurrentHashMap.newKeySet();
+
     private final Map<String, Placeholder> registeredPlaceholders = new HashMap<>();
 
     //map of String-Set of features using placeholder
     private final Map<String, Set<Refreshable>> placeholderUsage = new ConcurrentHashMap<>();
     private Placeholder[] usedPlaceholders = new Placeholder[0];
 
+    /** Placeholders requested by this manager itself, such as via tab expansion, which are not used by any feature */
+    private final Set<String> expansionUsage = ConcurrentHashMap.newKeySet();
+
+    /** Placeholders which lost their last feature while unsubscribing was deferred, {@code null} if not deferring */
+    @Nullable
+    private Set<String> deferredUnused;
+
     @Getter private int loopTime;
 
     @NotNull @Getter private final TabExpansion tabExpansion = registerExpansion ?
@@ -72,7 +91,17 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
         loopTime += TabConstants.Placeholder.MINIMUM_REFRESH_INTERVAL;
         List<Placeholder> placeholders = new ArrayList<>();
         for (Placeholder placeholder : usedPlaceholders) {
-            if (placeholder.getRefresh() == -1 || loopTime % placeholder.getRefresh() != 0) continue;
+            if (placeholder.getRefresh() == -1) continue;
+            int interval = adaptiveRefresh == null ? placeholder.getRefresh() : adaptiveRefresh.getInterval(placeholder);
+            if (loopTime % interval != 0) continue;
+            if (refreshBudget != null) {
+                PlaceholderBudget.State state = refreshBudget.getState(placeholder);
+                if (state == PlaceholderBudget.State.TRIPPED) continue;
+                if (state == PlaceholderBudget.State.ISOLATED) {
+                    refreshIsolated(placeholder);
+                    continue;
+                }
+            }
             placeholders.add(placeholder);
         }
         if (placeholders.isEmpty()) return;
@@ -83,6 +112,39 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
             long time2 = System.nanoTime();
             task.run();
             cpu.addTime(getFeatureName(), CpuUsageCategory.PLACEHOLDER_REQUEST, System.nanoTime() - time2);
+            if (refreshBudget != null) {
+                task.getUsedTime().forEach((identifier, nanoTime) ->
+                        refreshBudget.record(identifier, nanoTime, task.getEvaluationTime().get(identifier)));
+            }
+
+            // Back to main thread
+            cpu.runTask(() -> processRefreshResults(task));
+        });
+    }
+
+    /**
+     * Refreshes placeholder which exceeded its refresh time budget in a separate thread.
+     * If previous refresh is still running, this refresh is skipped and features keep
+     * using last known values.
+     *
+     * @param   placeholder
+     *          Placeholder to refresh
+     */
+    private void refreshIsolated(@NotNull Placeholder placeholder) {
+        String identifier = placeholder.getIdentifier();
+        if (refreshBudget == null || !isolatedRefreshing.add(identifier)) return;
+        PlaceholderRefreshTask task = new PlaceholderRefreshTask(Collections.singletonList(placeholder));
+        cpu.getSlowPlaceholderThread().submit(() -> {
+            // Run in slow placeholder refreshing thread
+            long time = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                isolatedRefreshing.remove(identifier);
+            }
+            cpu.addTime(getFeatureName(), CpuUsageCategory.PLACEHOLDER_REQUEST_ISOLATED, System.nanoTime() - time);
+            refreshBudget.record(identifier, task.getUsedTime().getOrDefault(identifier, 0L),
+                    task.getEvaluationTime().getOrDefault(identifier, 0L));
 
             // Back to main thread
             cpu.runTask(() -> processRefreshResults(task));
@@ -92,9 +154,11 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
     private void processRefreshResults(@NotNull PlaceholderRefreshTask task) {
         long time = System.nanoTime();
         Map<TabPlayer, Set<Refreshable>> update = new HashMap<>(TAB.getInstance().getOnlinePlayers().length + 1, 1);
-        updateServerPlaceholders(task.getServerPlaceholderResults(), update);
-        updatePlayerPlaceholders(task.getPlayerPlaceholderResults(), update);
-        Map<TabPlayer, Set<Refreshable>> forceUpdate = updateRelationalPlaceholders(task.getRelationalPlaceholderResults());
+        Set<Placeholder> changed = adaptiveRefresh == null ? null : new HashSet<>();
+        updateServerPlaceholders(task.getServerPlaceholderResults(), update, changed);
+        updatePlayerPlaceholders(task.getPlayerPlaceholderResults(), update, changed);
+        Map<TabPlayer, Set<Refreshable>> forceUpdate = updateRelationalPlaceholders(task.getRelationalPlaceholderResults(), changed);
+        if (adaptiveRefresh != null) adaptiveRefresh.update(task.getPlaceholdersToRefresh(), changed);
         cpu.addTime(getFeatureName(), CpuUsageCategory.PLACEHOLDER_SAVE, System.nanoTime() - time);
         cpu.addPlaceholderTimes(task.getUsedTime());
 
@@ -120,7 +184,8 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
 
     @NotNull
     private Map<TabPlayer, Set<Refreshable>> updateRelationalPlaceholders(
-            @Nullable Map<RelationalPlaceholderImpl, Map<TabPlayer, Map<TabPlayer, Object>>> results) {
+            @Nullable Map<RelationalPlaceholderImpl, Map<TabPlayer, Map<TabPlayer, Object>>> results,
+            @Nullable Set<Placeholder> changed) {
         if (results == null) return Collections.emptyMap();
         Map<TabPlayer, Set<Refreshable>> update = new HashMap<>(TAB.getInstance().getOnlinePlayers().length + 1, 1);
         for (Entry<RelationalPlaceholderImpl, Map<TabPlayer, Map<TabPlayer, Object>>> entry : results.entrySet()) {
@@ -132,6 +197,7 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
                     TabPlayer target = targetResult.getKey();
                     if (!target.isOnline()) continue; // Player disconnected in the meantime while refreshing in another thread
                     if (placeholder.hasValueChanged(viewer, target, targetResult.getValue())) {
+                        if (changed != null) changed.add(placeholder);
                         placeholder.updateParents(target);
                         update.computeIfAbsent(target, x -> new HashSet<>()).addAll(getPlaceholderUsage(placeholder.getIdentifier()));
                     }
@@ -142,7 +208,7 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
     }
 
     private void updatePlayerPlaceholders(@NotNull Map<PlayerPlaceholderImpl, Map<TabPlayer, Object>> results,
-                                          @NotNull Map<TabPlayer, Set<Refreshable>> update) {
+                                          @NotNull Map<TabPlayer, Set<Refreshable>> update, @Nullable Set<Placeholder> changed) {
         if (results.isEmpty()) return;
         for (Entry<PlayerPlaceholderImpl, Map<TabPlayer, Object>> entry : results.entrySet()) {
             PlayerPlaceholderImpl placeholder = entry.getKey();
@@ -150,6 +216,7 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
                 TabPlayer player = playerResult.getKey();
                 if (!player.isOnline()) continue; // Player disconnected in the meantime while refreshing in another thread
                 if (placeholder.hasValueChanged(player, playerResult.getValue())) {
+                    if (changed != null) changed.add(placeholder);
                     placeholder.updateParents(player);
                     update.computeIfAbsent(player, k -> new HashSet<>()).addAll(getPlaceholderUsage(placeholder.getIdentifier()));
                     if (placeholder.getIdentifier().equals(TabConstants.Placeholder.VANISHED)) {
@@ -164,11 +231,12 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
     }
 
     private void updateServerPlaceholders(@NotNull Map<ServerPlaceholderImpl, Object> results,
-                                          @NotNull Map<TabPlayer, Set<Refreshable>> update) {
+                                          @NotNull Map<TabPlayer, Set<Refreshable>> update, @Nullable Set<Placeholder> changed) {
         if (results.isEmpty()) return;
         for (Entry<ServerPlaceholderImpl, Object> entry : results.entrySet()) {
             ServerPlaceholderImpl placeholder = entry.getKey();
             if (placeholder.hasValueChanged(entry.getValue())) {
+                if (changed != null) changed.add(placeholder);
                 for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
                     placeholder.updateParents(all);
                     update.computeIfAbsent(all, k -> new HashSet<>()).addAll(getPlaceholderUsage(placeholder.getIdentifier()));
@@ -242,27 +310,25 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
      * @return  list of detected identifiers
      */
     public @NotNull List<String> detectPlaceholders(@NonNull String text) {
-        if (!text.contains("%")) return Collections.emptyList();
-        if (text.charAt(0) == '%' && text.charAt(text.length()-1) == '%') {
-            int count = 0;
-            char[] array = text.toCharArray();
-            for (char c : array) {
-                if (c == '%') {
-                    count++;
-                }
-            }
-            if (count == 2) return Collections.singletonList(text);
-        }
+        int start = text.indexOf('%');
+        if (start == -1) return Collections.emptyList();
+        int end = text.indexOf('%', start + 1);
+        if (end == -1) return Collections.emptyList();
+        if (start == 0 && end == text.length() - 1) return Collections.singletonList(text);
         List<String> placeholders = new ArrayList<>();
-        Matcher m = placeholderPattern.matcher(text);
-        while (m.find()) {
-            placeholders.add(m.group());
+        while (end != -1) {
+            placeholders.add(text.substring(start, end + 1));
+            start = text.indexOf('%', end + 1);
+            if (start == -1) break;
+            end = text.indexOf('%', start + 1);
         }
         return placeholders;
     }
 
     /**
-     * Marks placeholder as used by specified feature.
+     * Marks placeholder as used by specified feature. If the feature is this manager,
+     * placeholder is only marked as used via tab expansion, which does not
+     * subscribe bridge placeholders on proxies.
      *
      * @param   identifier
      *          Placeholder to mark as used
@@ -270,20 +336,102 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
      *          Feature using the placeholder
      */
     public void addUsedPlaceholder(@NonNull String identifier, @NonNull Refreshable feature) {
-        if (placeholderUsage.computeIfAbsent(identifier, x -> new HashSet<>()).add(feature)) {
-            recalculateUsedPlaceholders();
-            TabPlaceholder p = getPlaceholder(identifier);
-            for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-                tabExpansion.setPlaceholderValue(all, p.getIdentifier(), p.getLastValueSafe(all));
+        boolean newlyUsed = !isPlaceholderUsed(identifier);
+        if (feature == this) {
+            if (!newlyUsed) return;
+            expansionUsage.add(identifier);
+        } else {
+            if (!placeholderUsage.computeIfAbsent(identifier, x -> new HashSet<>()).add(feature)) return;
+            if (TAB.getInstance().getPlatform() instanceof ProxyPlatform) {
+                ((ProxyPlatform) TAB.getInstance().getPlatform()).subscribeBridgePlaceholder(identifier);
             }
         }
+        if (!newlyUsed) return;
+        recalculateUsedPlaceholders();
+        TabPlaceholder p = getPlaceholder(identifier);
+        for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
+            tabExpansion.setPlaceholderValue(all, p.getIdentifier(), p.getLastValueSafe(all));
+        }
+    }
+
+    /**
+     * Removes specified feature from usage of all placeholders. Placeholders
+     * no longer used by any feature or tab expansion stop being refreshed. On proxies, backend
+     * servers are told to stop refreshing such placeholders as well, unless
+     * unsubscribing is currently deferred.
+     *
+     * @param   feature
+     *          Feature to remove placeholder usage of
+     */
+    public void removeUsedPlaceholders(@NonNull Refreshable feature) {
+        List<String> unused = new ArrayList<>();
+        placeholderUsage.entrySet().removeIf(entry -> {
+            Set<Refreshable> usage = entry.getValue();
+            if (!usage.remove(feature) || !usage.isEmpty()) return false;
+            unused.add(entry.getKey());
+            return true;
+        });
+        recalculateUsedPlaceholders();
+        if (deferredUnused != null) {
+            deferredUnused.addAll(unused);
+        } else {
+            unsubscribeBridgePlaceholders(unused);
+        }
+    }
+
+    /**
+     * Starts deferring unsubscribing of bridge placeholders, so features can be
+     * replaced without telling backend servers to stop and start refreshing
+     * placeholders which are used by both old and new features.
+     */
+    public void deferUnsubscribing() {
+        deferredUnused = new HashSet<>();
+    }
+
+    /**
+     * Stops deferring unsubscribing of bridge placeholders and unsubscribes
+     * placeholders which lost their last feature in the meantime and were
+     * not picked up by any other feature since.
+     */
+    public void finishUnsubscribing() {
+        Set<String> unused = deferredUnused;
+        deferredUnused = null;
+        if (unused == null) return;
+        unused.removeIf(placeholderUsage::containsKey);
+        unsubscribeBridgePlaceholders(unused);
+    }
+
+    /**
+     * Tells backend servers to stop refreshing specified placeholders if
+     * running on a proxy.
+     *
+     * @param   identifiers
+     *          Placeholders no longer used by any feature
+     */
+    private void unsubscribeBridgePlaceholders(@NotNull Collection<String> identifiers) {
+        if (!(TAB.getInstance().getPlatform() instanceof ProxyPlatform)) return;
+        for (String identifier : identifiers) {
+            ((ProxyPlatform) TAB.getInstance().getPlatform()).unsubscribeBridgePlaceholder(identifier);
+        }
+    }
+
+    /**
+     * Returns {@code true} if placeholder is used by any feature or via tab expansion.
+     *
+     * @param   identifier
+     *          Placeholder to check
+     * @return  {@code true} if placeholder is used, {@code false} if not
+     */
+    private boolean isPlaceholderUsed(@NotNull String identifier) {
+        return placeholderUsage.containsKey(identifier) || expansionUsage.contains(identifier);
     }
 
     /**
      * Updates array of used placeholders.
      */
     private void recalculateUsedPlaceholders() {
-        usedPlaceholders = placeholderUsage.keySet().stream().map(this::getPlaceholder).distinct().toArray(Placeholder[]::new);
+        usedPlaceholders = Stream.concat(placeholderUsage.keySet().stream(), expansionUsage.stream())
+                .map(this::getPlaceholder).distinct().toArray(Placeholder[]::new);
     }
 
     /**
@@ -310,7 +458,7 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
      */
     @NotNull
     public Set<Refreshable> getPlaceholderUsage(@NotNull String identifier) {
-        Set<Refreshable> usage = placeholderUsage.getOrDefault(identifier, new HashSet<>());
+        Set<Refreshable> usage = new HashSet<>(placeholderUsage.getOrDefault(identifier, Collections.emptySet()));
         for (String parent : getPlaceholder(identifier).getParents()) {
             usage.addAll(getPlaceholderUsage(parent));
         }
@@ -399,7 +547,7 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
             addUsedPlaceholder(identifier, this); //likely used via tab expansion
             return getPlaceholder(identifier);
         }
-        if (!placeholderUsage.containsKey(identifier)) {
+        if (!isPlaceholderUsed(identifier)) {
             //tab expansion for internal placeholder
             addUsedPlaceholder(identifier, this);
         }
@@ -417,6 +565,7 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
         ensureActive();
         registeredPlaceholders.remove(identifier);
         placeholderUsage.remove(identifier);
+        expansionUsage.remove(identifier);
         recalculateUsedPlaceholders();
     }
 }
\ No newline at end of file
@@ -6,17 +6,19 @@ import me.neznamy.tab.api.tablist.TabListFormatManager;
 import me.neznamy.tab.shared.Property;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
-import me.neznamy.tab.shared.chat.SimpleComponent;
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.features.layout.LayoutManagerImpl;
 import me.neznamy.tab.shared.features.layout.PlayerSlot;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
 import me.neznamy.tab.shared.features.types.*;
 import me.neznamy.tab.shared.placeholders.conditions.Condition;
+import me.neznamy.tab.shared.platform.TabList;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -24,7 +26,7 @@ import java.util.UUID;
  */
 @Getter
 public class PlayerList extends TabFeature implements TabListFormatManager, JoinListener, Loadable,
-        UnLoadable, WorldSwitchListener, ServerSwitchListener, Refreshable, VanishListener {
+        UnLoadable, WorldSwitchListener, ServerSwitchListener, Refreshable, VanishListener, QuitListener {
 
     /** Config option toggling anti-override which prevents other plugins from overriding TAB */
     protected final boolean antiOverrideTabList = config().getBoolean("tablist-name-formatting.anti-override", true);
@@ -107,12 +109,13 @@ public class PlayerList extends TabFeature implements TabListFormatManager, Join
      */
     protected void updatePlayer(@NotNull me.neznamy.tab.api.TabPlayer p, boolean format) {
         TabPlayer player = (TabPlayer) p;
+        player.expectedTabFormat = format ? getTabFormat(player, player) : null;
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
             if (viewer.getVersion().getMinorVersion() < 8) continue;
             //if (!viewer.getTabList().containsEntry(player.getTablistId())) continue;
             UUID tablistId = getTablistUUID(player, viewer);
-            viewer.getTabList().updateDisplayName(tablistId, format ? getTabFormat(player, viewer) :
-                    tablistId.getMostSignificantBits() == 0 ? new SimpleComponent(player.getName()) : null);
+            viewer.getTabList().queueDisplayName(tablistId, format ? getTabFormat(player, viewer) :
+                    tablistId.getMostSignificantBits() == 0 ? TabComponent.optimized(player.getName()) : null);
         }
         if (redis != null) redis.updateTabFormat(player, player.getProperty(TabConstants.Property.TABPREFIX).get() +
                 player.getProperty(TabConstants.Property.CUSTOMTABNAME).get() + player.getProperty(TabConstants.Property.TABSUFFIX).get());
@@ -146,29 +149,37 @@ public class PlayerList extends TabFeature implements TabListFormatManager, Join
             if (disableChecker.isDisableConditionMet(all)) {
                 all.disabledPlayerList.set(true);
             } else {
+                all.expectedTabFormat = getTabFormat(all, all);
                 if (redis != null) redis.updateTabFormat(all, all.getProperty(TabConstants.Property.TABPREFIX).get() + all.getProperty(TabConstants.Property.CUSTOMTABNAME).get() + all.getProperty(TabConstants.Property.TABSUFFIX).get());
             }
         }
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
             if (viewer.getVersion().getMinorVersion() < 8) continue;
+            List<TabList.Entry> entries = new ArrayList<>();
             for (TabPlayer target : TAB.getInstance().getOnlinePlayers()) {
                 if (target.disabledPlayerList.get()) continue;
                 //if (!viewer.getTabList().containsEntry(target.getTablistId())) continue;
-                viewer.getTabList().updateDisplayName(getTablistUUID(target, viewer), getTabFormat(target, viewer));
+                entries.add(TabList.Entry.displayName(getTablistUUID(target, viewer), getTabFormat(target, viewer)));
             }
+            viewer.getTabList().updateDisplayNames(entries);
         }
     }
 
     @Override
     public void unload() {
         disabling = true;
+        for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
+            all.expectedTabFormat = null;
+        }
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
             if (viewer.getVersion().getMinorVersion() < 8) continue;
+            List<TabList.Entry> entries = new ArrayList<>();
             for (TabPlayer target : TAB.getInstance().getOnlinePlayers()) {
                 if (target.disabledPlayerList.get()) continue;
                 //if (!viewer.getTabList().containsEntry(target.getTablistId())) continue;
-                viewer.getTabList().updateDisplayName(getTablistUUID(target, target), null);
+                entries.add(TabList.Entry.displayName(getTablistUUID(target, target), null));
             }
+            viewer.getTabList().updateDisplayNames(entries);
         }
     }
 
@@ -181,11 +192,11 @@ public class PlayerList extends TabFeature implements TabListFormatManager, Join
                 if (!all.disabledPlayerList.get() && p.getVersion().getMinorVersion() >= 8
                         //&& p.getTabList().containsEntry(all.getTablistId())
                 )
-                    p.getTabList().updateDisplayName(getTablistUUID(all, p), getTabFormat(all, p));
+                    p.getTabList().queueDisplayName(getTablistUUID(all, p), getTabFormat(all, p));
                 if (all != p && !p.disabledPlayerList.get() && all.getVersion().getMinorVersion() >= 8
                         //&& all.getTabList().containsEntry(p.getTablistId())
                 )
-                    all.getTabList().updateDisplayName(getTablistUUID(p, all), getTabFormat(p, all));
+                    all.getTabList().queueDisplayName(getTablistUUID(p, all), getTabFormat(p, all));
             }
         });
     }
@@ -243,9 +254,11 @@ public class PlayerList extends TabFeature implements TabListFormatManager, Join
         Runnable r = () -> {
             refresh(connectedPlayer, true);
             if (connectedPlayer.getVersion().getMinorVersion() < 8) return;
+            List<TabList.Entry> entries = new ArrayList<>();
             for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-                connectedPlayer.getTabList().updateDisplayName(getTablistUUID(all, connectedPlayer), getTabFormat(all, connectedPlayer));
+                entries.add(TabList.Entry.displayName(getTablistUUID(all, connectedPlayer), getTabFormat(all, connectedPlayer)));
             }
+            connectedPlayer.getTabList().updateDisplayNames(entries);
         };
         //add packet might be sent after tab's refresh packet, resending again when anti-override is disabled
         if (!antiOverrideTabList || !TAB.getInstance().getFeatureManager().isFeatureEnabled(TabConstants.Feature.PIPELINE_INJECTION)) {
@@ -261,7 +274,14 @@ public class PlayerList extends TabFeature implements TabListFormatManager, Join
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
             if (viewer.getVersion().getMinorVersion() < 8) continue;
             //if (!viewer.getTabList().containsEntry(player.getTablistId())) continue;
-            viewer.getTabList().updateDisplayName(player.getTablistId(), getTabFormat(player, viewer));
+            viewer.getTabList().queueDisplayName(player.getTablistId(), getTabFormat(player, viewer));
+        }
+    }
+
+    @Override
+    public void onQuit(@NotNull TabPlayer disconnectedPlayer) {
+        for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
+            viewer.getTabList().removeExpectedDisplayName(disconnectedPlayer.getTablistId());
         }
     }
 
@@ -7,96 +7,176 @@ import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.types.*;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Cancelling GameMode change packet to spectator GameMode to avoid players being moved on
  * the bottom of TabList with transparent name. Does not work on self as that would result
  * in players not being able to clip through walls.
+ * <p>
+ * Players in spectator mode and players with bypass permission are tracked, so every event
+ * only sends GameMode updates between the affected player and players in spectator mode
+ * instead of going through all pairs of online players.
  */
 @Getter
-public class SpectatorFix extends TabFeature implements JoinListener, GameModeListener, Loadable, UnLoadable,
-        ServerSwitchListener, WorldSwitchListener, VanishListener {
+public class SpectatorFix extends TabFeature implements JoinListener, QuitListener, GameModeListener, Loadable, UnLoadable,
+        ServerSwitchListener, WorldSwitchListener, VanishListener, Refreshable {
+
+    /** Online players currently in spectator mode */
+    private final Set<TabPlayer> spectators = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /** Online players with spectator bypass permission, refreshed in permission refresh interval */
+    private final Set<TabPlayer> bypassing = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
     /**
-     * Sends GameMode update of all players to either their real GameMode if
-     * {@code realGameMode} is {@code true} or fake value if it's {@code false}.
+     * Queues GameMode of all players in spectator mode to viewer, either
+     * their real GameMode if {@code realGameMode} is {@code true} or fake
+     * value if it's {@code false}.
      *
      * @param   viewer
-     *          Player to send gamemode updates to
+     *          Player to send GameMode updates to
      * @param   realGameMode
      *          Whether real GameMode should be shown or fake one
-     * @param   mutually
-     *          If target's view should be updated as well
      */
-    private void updatePlayer(@NotNull TabPlayer viewer, boolean realGameMode, boolean mutually) {
-        for (TabPlayer target : TAB.getInstance().getOnlinePlayers()) {
-            if (viewer == target) continue;
-            if (target.getGamemode() == 3 && !viewer.hasPermission(TabConstants.Permission.SPECTATOR_BYPASS)) {
-                viewer.getTabList().updateGameMode(target.getTablistId(), realGameMode ? target.getGamemode() : 0);
-            }
-            if (mutually && viewer.getGamemode() == 3 && !target.hasPermission(TabConstants.Permission.SPECTATOR_BYPASS)) {
-                target.getTabList().updateGameMode(viewer.getTablistId(), realGameMode ? viewer.getGamemode() : 0);
-            }
+    private void updateSpectators(@NotNull TabPlayer viewer, boolean realGameMode) {
+        for (TabPlayer spectator : spectators) {
+            if (spectator == viewer) continue;
+            viewer.getTabList().queueGameMode(spectator.getTablistId(), realGameMode ? spectator.getGamemode() : 0);
         }
     }
 
-    @Override
-    public void onGameModeChange(@NotNull TabPlayer player) {
-        if (player.getGamemode() != 3) return;
+    /**
+     * Queues fake GameMode of player in spectator mode to all players without bypass permission.
+     *
+     * @param   spectator
+     *          Player in spectator mode
+     * @param   sameServer
+     *          Whether only players on the same server should receive the update
+     */
+    private void hideSpectator(@NotNull TabPlayer spectator, boolean sameServer) {
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
-            if (viewer.hasPermission(TabConstants.Permission.SPECTATOR_BYPASS)) continue;
-            if (player != viewer && player.getServer().equals(viewer.getServer())) {
-                viewer.getTabList().updateGameMode(player.getTablistId(), 0);
-            }
+            if (viewer == spectator || bypassing.contains(viewer)) continue;
+            if (sameServer && !spectator.getServer().equals(viewer.getServer())) continue;
+            viewer.getTabList().queueGameMode(spectator.getTablistId(), 0);
+        }
+    }
+
+    /**
+     * Checks bypass permission of player and saves the result.
+     *
+     * @param   player
+     *          Player to check
+     * @return  {@code true} if player has bypass permission, {@code false} if not
+     */
+    private boolean updateBypass(@NotNull TabPlayer player) {
+        if (player.hasPermission(TabConstants.Permission.SPECTATOR_BYPASS)) {
+            bypassing.add(player);
+            return true;
+        }
+        bypassing.remove(player);
+        return false;
+    }
+
+    /**
+     * Saves spectator mode status of player.
+     *
+     * @param   player
+     *          Player to save status of
+     * @return  {@code true} if player is in spectator mode, {@code false} if not
+     */
+    private boolean updateSpectator(@NotNull TabPlayer player) {
+        if (player.getGamemode() == 3) {
+            spectators.add(player);
+            return true;
         }
+        spectators.remove(player);
+        return false;
+    }
+
+    @Override
+    public void onGameModeChange(@NotNull TabPlayer player) {
+        if (!updateSpectator(player)) return;
+        hideSpectator(player, true);
     }
 
     @Override
     public void onJoin(@NotNull TabPlayer p) {
-        TAB.getInstance().getCPUManager().runTaskLater(100, getFeatureName(), TabConstants.CpuUsageCategory.PLAYER_JOIN,
-                () -> updatePlayer(p, false, true));
+        updateBypass(p);
+        updateSpectator(p);
+        TAB.getInstance().getCPUManager().runTaskLater(100, getFeatureName(), TabConstants.CpuUsageCategory.PLAYER_JOIN, () -> {
+            if (!p.isOnline()) return;
+            if (!bypassing.contains(p)) updateSpectators(p, false);
+            if (spectators.contains(p)) hideSpectator(p, false);
+        });
+    }
+
+    @Override
+    public void onQuit(@NotNull TabPlayer disconnectedPlayer) {
+        spectators.remove(disconnectedPlayer);
+        bypassing.remove(disconnectedPlayer);
     }
 
     @Override
     public void load() {
+        TAB.getInstance().getPlaceholderManager().registerPlayerPlaceholder(TabConstants.Placeholder.SPECTATOR_BYPASS,
+                TAB.getInstance().getConfiguration().getPermissionRefreshInterval(), p -> updateBypass((TabPlayer) p));
+        addUsedPlaceholder(TabConstants.Placeholder.SPECTATOR_BYPASS);
+        for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
+            updateBypass(all);
+            updateSpectator(all);
+        }
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
-            updatePlayer(viewer, false, false);
+            if (!bypassing.contains(viewer)) updateSpectators(viewer, false);
         }
     }
 
     @Override
     public void unload() {
+        // Sent directly, queued changes would not be sent anymore after plugin is disabled
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
-            updatePlayer(viewer, true, false);
+            if (bypassing.contains(viewer)) continue;
+            for (TabPlayer spectator : spectators) {
+                if (spectator == viewer) continue;
+                viewer.getTabList().updateGameMode(spectator.getTablistId(), spectator.getGamemode());
+            }
         }
     }
 
+    @Override
+    public void refresh(@NotNull TabPlayer refreshed, boolean force) {
+        // Bypass permission changed, placeholder already saved the new value
+        updateSpectators(refreshed, bypassing.contains(refreshed));
+    }
+
     @Override
     public void onServerChange(@NotNull TabPlayer changed, @NotNull String from, @NotNull String to) {
         // 200ms delay for global playerlist, taking extra time
         TAB.getInstance().getCPUManager().runTaskLater(300, getFeatureName(), TabConstants.CpuUsageCategory.SERVER_SWITCH, () -> {
-            for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-                updatePlayer(all, false, true);
-            }
+            if (!changed.isOnline()) return;
+            if (!bypassing.contains(changed)) updateSpectators(changed, false);
+            if (spectators.contains(changed)) hideSpectator(changed, false);
         });
     }
 
     @Override
     public void onWorldChange(@NotNull TabPlayer changed, @NotNull String from, @NotNull String to) {
         // Some server versions may resend gamemode on world switch, resend false value again
-        if (changed.getGamemode() != 3) return;
-        for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
-            if (viewer == changed || viewer.hasPermission(TabConstants.Permission.SPECTATOR_BYPASS)) continue;
-            viewer.getTabList().updateGameMode(changed.getTablistId(), 0);
-        }
+        if (!spectators.contains(changed)) return;
+        hideSpectator(changed, false);
     }
 
     @Override
     public void onVanishStatusChange(@NotNull TabPlayer player) {
-        if (player.isVanished() || player.getGamemode() != 3) return;
-        for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
-            if (viewer == player || viewer.hasPermission(TabConstants.Permission.SPECTATOR_BYPASS)) continue;
-            viewer.getTabList().updateGameMode(player.getTablistId(), 0);
-        }
+        if (player.isVanished() || !spectators.contains(player)) return;
+        hideSpectator(player, false);
+    }
+
+    @Override
+    @NotNull
+    public String getRefreshDisplayName() {
+        return "Updating spectator bypass";
     }
 
     @Override
@@ -104,4 +184,4 @@ public class SpectatorFix extends TabFeature implements JoinListener, GameModeLi
     public String getFeatureName() {
         return "Spectator fix";
     }
-}
\ No newline at end of file
+}
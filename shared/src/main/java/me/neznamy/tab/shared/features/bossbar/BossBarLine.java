@@ -199,6 +199,7 @@ public class BossBarLine implements BossBar {
      */
     public void removePlayerRaw(@NotNull TabPlayer player) {
         players.remove(player);
+        player.bossbarData.displayed.remove(this);
     }
 
     // ------------------
@@ -270,6 +271,7 @@ public class BossBarLine implements BossBar {
         player.setProperty(styleRefresher, propertyStyle, style);
         sendToPlayerRaw(player);
         players.add(player);
+        player.bossbarData.displayed.add(this);
     }
 
     @Override
@@ -277,6 +279,7 @@ public class BossBarLine implements BossBar {
         TabPlayer player = (TabPlayer) p;
         if (!players.contains(player)) return;
         players.remove(player);
+        player.bossbarData.displayed.remove(this);
         player.getBossBar().remove(uniqueId);
     }
 
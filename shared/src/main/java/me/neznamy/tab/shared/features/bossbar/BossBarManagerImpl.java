@@ -24,7 +24,7 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
         UnLoadable, Refreshable, LoginPacketListener, QuitListener {
 
     //default BossBars
-    private final List<String> defaultBars = new ArrayList<>();
+    private final List<BossBarLine> defaultBars = new ArrayList<>();
 
     //registered BossBars
     @Getter private final Map<String, BossBar> registeredBossBars = new HashMap<>();
@@ -40,13 +40,15 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
     //list of currently running BossBar announcements
     @Getter private final List<BossBar> announcedBossBars = new ArrayList<>();
 
-    //players with toggled BossBar
-    private final List<String> bossBarOffPlayers = rememberToggleChoice ? TAB.getInstance().getConfiguration().getPlayerDataFile()
-            .getStringList("bossbar-off", new ArrayList<>()) : Collections.emptyList();
+    //name of toggle storing players with toggled BossBar
+    private static final String TOGGLE = "bossbar-off";
 
     //time when BossBar announce ends, used for placeholder
     private long announceEndTime;
 
+    //BossBars player should see in display order, reused to avoid allocations on every refresh
+    private final List<BossBarLine> targetBars = new ArrayList<>();
+
     /**
      * Constructs new instance and loads configuration
      */
@@ -54,7 +56,7 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
         for (Object bar : config().getConfigurationSection("bossbar.bars").keySet()) {
             BossBarLine line = loadFromConfig(bar.toString());
             registeredBossBars.put(bar.toString(), line);
-            if (!line.isAnnouncementBar()) defaultBars.add(bar.toString());
+            if (!line.isAnnouncementBar()) defaultBars.add(line);
         }
         lineValues = registeredBossBars.values().toArray(new BossBar[0]);
     }
@@ -96,18 +98,7 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
     @Override
     public void refresh(@NotNull TabPlayer p, boolean force) {
         if (!hasBossBarVisible(p)) return;
-        boolean conditionResultChange = false;
-        for (BossBar line : lineValues) {
-            if (((BossBarLine)line).isConditionMet(p) != line.containsPlayer(p))
-                conditionResultChange = true;
-        }
-        if (conditionResultChange) {
-            for (BossBar line : lineValues) {
-                line.removePlayer(p); //remove all BossBars and then resend them again to keep them displayed in defined order
-            }
-            showBossBars(p, defaultBars);
-            showBossBars(p, announcedBossBars.stream().map(BossBar::getName).collect(Collectors.toList()));
-        }
+        reconcile(p);
     }
 
     @Override
@@ -127,7 +118,8 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
 
     @Override
     public void onJoin(@NotNull TabPlayer connectedPlayer) {
-        setBossBarVisible(connectedPlayer, hiddenByDefault == bossBarOffPlayers.contains(connectedPlayer.getName()), false);
+        setBossBarVisible(connectedPlayer, hiddenByDefault == (rememberToggleChoice &&
+                TAB.getInstance().getConfiguration().getToggleStore().contains(TOGGLE, connectedPlayer.getName())), false);
     }
 
     @Override
@@ -140,32 +132,61 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
     }
 
     /**
-     * Clears and resends all BossBars to specified player
+     * Sends BossBars player should see if they have BossBars visible
      *
      * @param   p
      *          player to process
      */
     protected void detectBossBarsAndSend(@NonNull TabPlayer p) {
         if (!hasBossBarVisible(p)) return;
-        showBossBars(p, defaultBars);
-        showBossBars(p, announcedBossBars.stream().map(BossBar::getName).collect(Collectors.toList()));
+        reconcile(p);
     }
 
     /**
-     * Shows BossBars to player if display condition is met
+     * Brings displayed BossBars of player to the target state, which is default BossBars followed by
+     * announced BossBars, both filtered by display condition and in this order. Since new BossBars
+     * can only be added to the bottom, the longest prefix of the target already displayed in correct
+     * order is kept, other managed BossBars are removed and the rest of the target is added again.
+     * BossBars sent by API which are neither default nor announced are left untouched.
      *
      * @param   p
-     *          player to show BossBars to
-     * @param   bars
-     *          list of BossBars to check
+     *          player to process
      */
-    private void showBossBars(@NonNull TabPlayer p, @NonNull List<String> bars) {
-        for (String defaultBar : bars) {
-            BossBarLine bar = (BossBarLine) registeredBossBars.get(defaultBar);
-            if (bar.isConditionMet(p) && !bar.containsPlayer(p)) {
-                bar.addPlayer(p);
-            }
+    private void reconcile(@NonNull TabPlayer p) {
+        List<BossBarLine> target = targetBars;
+        target.clear();
+        for (BossBarLine line : defaultBars) {
+            if (line.isConditionMet(p)) target.add(line);
+        }
+        for (BossBar bar : announcedBossBars) {
+            BossBarLine line = (BossBarLine) bar;
+            if (line.isConditionMet(p) && !target.contains(line)) target.add(line);
+        }
+        List<BossBarLine> displayed = p.bossbarData.displayed;
+        int kept = 0;
+        for (BossBarLine line : displayed) {
+            if (kept < target.size() && line == target.get(kept)) kept++;
+        }
+        for (int i = displayed.size() - 1; i >= 0; i--) {
+            BossBarLine line = displayed.get(i);
+            int index = target.indexOf(line);
+            if (index == -1 ? isManaged(line) : index >= kept) line.removePlayer(p);
         }
+        for (int i = kept; i < target.size(); i++) {
+            target.get(i).addPlayer(p);
+        }
+    }
+
+    /**
+     * Returns {@code true} if BossBar is displayed based on configuration, which is the
+     * case for default BossBars and announced BossBars, {@code false} otherwise.
+     *
+     * @param   line
+     *          BossBar to check
+     * @return  {@code true} if BossBar is managed by configuration, {@code false} if not
+     */
+    private boolean isManaged(@NonNull BossBarLine line) {
+        return !line.isAnnouncementBar() || announcedBossBars.contains(line);
     }
 
     @Override
@@ -173,10 +194,8 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
         // Since 1.20.2, Login packet clears BossBars as well
         if (player.getVersion().getNetworkId() >= ProtocolVersion.V1_20_2.getNetworkId()) {
             player.getBossBar().unfreeze();
-            for (BossBar bar : lineValues) {
-                if (bar.containsPlayer(player)) {
-                    ((BossBarLine)bar).sendToPlayerRaw(player);
-                }
+            for (BossBarLine bar : player.bossbarData.displayed) {
+                bar.sendToPlayerRaw(player);
             }
         }
     }
@@ -243,44 +262,17 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
             player.bossbarData.visible = true;
             detectBossBarsAndSend(player);
             if (sendToggleMessage) player.sendMessage(toggleOnMessage, true);
-            if (rememberToggleChoice) {
-                if (hiddenByDefault) {
-                    if (!bossBarOffPlayers.contains(player.getName())) {
-                        bossBarOffPlayers.add(player.getName());
-                        savePlayers();
-                    }
-                } else {
-                    if (bossBarOffPlayers.remove(player.getName())) {
-                        savePlayers();
-                    }
-                }
-            }
         } else {
             player.bossbarData.visible = false;
             for (BossBar l : lineValues) {
                 l.removePlayer(player);
             }
             if (sendToggleMessage) player.sendMessage(toggleOffMessage, true);
-            if (rememberToggleChoice) {
-                if (hiddenByDefault) {
-                    if (bossBarOffPlayers.remove(player.getName())) {
-                        savePlayers();
-                    }
-                } else {
-                    if (!bossBarOffPlayers.contains(player.getName())) {
-                        bossBarOffPlayers.add(player.getName());
-                        savePlayers();
-                    }
-                }
-            }
         }
-        TAB.getInstance().getPlaceholderManager().getTabExpansion().setBossBarVisible(player, visible);
-    }
-
-    private void savePlayers() {
-        synchronized (bossBarOffPlayers) {
-            TAB.getInstance().getConfiguration().getPlayerDataFile().set("bossbar-off", new ArrayList<>(bossBarOffPlayers));
+        if (rememberToggleChoice) {
+            TAB.getInstance().getConfiguration().getToggleStore().set(TOGGLE, player.getName(), visible == hiddenByDefault);
         }
+        TAB.getInstance().getPlaceholderManager().getTabExpansion().setBossBarVisible(player, visible);
     }
 
     @Override
@@ -324,5 +316,8 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
 
         /** Whether player wishes to see boss bars or not */
         public boolean visible;
+
+        /** BossBars currently displayed to the player in the order they were sent */
+        public final List<BossBarLine> displayed = new ArrayList<>();
     }
 }
\ No newline at end of file
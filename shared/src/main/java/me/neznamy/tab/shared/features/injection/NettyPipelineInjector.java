@@ -2,7 +2,9 @@ package me.neznamy.tab.shared.features.injection;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import io.netty.channel.ChannelHandlerContext;
@@ -27,6 +29,13 @@ public abstract class NettyPipelineInjector extends PipelineInjector {
 
     @Getter private final Function<TabPlayer, ChannelDuplexHandler> channelFunction = TabChannelDuplexHandler::new;
 
+    /**
+     * Handlers interested in each packet class, built on first sight of a class.
+     * This allows the vast majority of packets not processed by the plugin
+     * to pass through with a single map lookup.
+     */
+    private final Map<Class<?>, PacketHandlers> dispatchTable = new ConcurrentHashMap<>();
+
     @Nullable
     protected abstract Channel getChannel(@NotNull TabPlayer player);
 
@@ -66,6 +75,7 @@ public abstract class NettyPipelineInjector extends PipelineInjector {
 
     /**
      * Returns {@code true} if packet is Login packet, {@code false} if not.
+     * The result must only depend on packet's class, as it is cached.
      *
      * @param   packet
      *          Packet to check
@@ -87,14 +97,17 @@ public abstract class NettyPipelineInjector extends PipelineInjector {
         @Override
         public void write(ChannelHandlerContext context, Object packet, ChannelPromise channelPromise) {
             try {
-                if (player.getVersion().getMinorVersion() >= 8)
+                PacketHandlers handlers = getHandlers(packet);
+                if (handlers.tabList && player.getVersion().getMinorVersion() >= 8)
                     player.getTabList().onPacketSend(packet);
 
-                long time = System.nanoTime();
-                player.getScoreboard().onPacketSend(packet);
-                TAB.getInstance().getCPUManager().addTime("Scoreboard management", TabConstants.CpuUsageCategory.ANTI_OVERRIDE, System.nanoTime()-time);
+                if (handlers.scoreboard) {
+                    long time = System.nanoTime();
+                    player.getScoreboard().onPacketSend(packet);
+                    TAB.getInstance().getCPUManager().addTime("Scoreboard management", TabConstants.CpuUsageCategory.ANTI_OVERRIDE, System.nanoTime()-time);
+                }
 
-                if (isLogin(packet)) {
+                if (handlers.login) {
                     player.getScoreboard().freeze();
                     super.write(context, packet, channelPromise);
                     TAB.getInstance().getCPUManager().runTaskLater(200, getFeatureName(),
@@ -107,7 +120,7 @@ public abstract class NettyPipelineInjector extends PipelineInjector {
                     });
                     return;
                 }
-                TAB.getInstance().getFeatureManager().onPacketSend(player, packet);
+                if (handlers.features) TAB.getInstance().getFeatureManager().onPacketSend(player, packet);
             } catch (Throwable e) {
                 TAB.getInstance().getErrorManager().printError("An error occurred when reading packets", e);
             }
@@ -117,5 +130,46 @@ public abstract class NettyPipelineInjector extends PipelineInjector {
                 TAB.getInstance().getErrorManager().printError(String.format("Failed to forward packet %s to %s", packet.getClass().getSimpleName(), player.getName()), e);
             }
         }
+
+        /**
+         * Returns handlers interested in given packet. Handlers are computed
+         * on first sight of packet's class and then cached.
+         *
+         * @param   packet
+         *          Packet to get handlers for
+         * @return  Handlers interested in given packet
+         */
+        @NotNull
+        private PacketHandlers getHandlers(@NotNull Object packet) {
+            PacketHandlers handlers = dispatchTable.get(packet.getClass());
+            if (handlers != null) return handlers;
+            handlers = new PacketHandlers(
+                    player.getTabList().isHandledPacket(packet.getClass()),
+                    player.getScoreboard().isHandledPacket(packet.getClass()),
+                    isLogin(packet),
+                    TAB.getInstance().getFeatureManager().isHandledPacket(packet.getClass())
+            );
+            dispatchTable.put(packet.getClass(), handlers);
+            return handlers;
+        }
+    }
+
+    /**
+     * Handlers interested in a packet class.
+     */
+    @RequiredArgsConstructor
+    private static class PacketHandlers {
+
+        /** Whether TabList needs to process the packet or not */
+        private final boolean tabList;
+
+        /** Whether Scoreboard needs to process the packet or not */
+        private final boolean scoreboard;
+
+        /** Whether the packet is Login packet or not */
+        private final boolean login;
+
+        /** Whether at least one feature listening to packets needs to process the packet or not */
+        private final boolean features;
     }
 }
@@ -35,7 +35,7 @@ public class FixedSlot extends TabFeature implements Refreshable {
             p.getTabList().removeEntry(id);
             p.getTabList().addEntry(createEntry(p));
         } else {
-            p.getTabList().updateDisplayName(id, TabComponent.optimized(p.getProperty(propertyName).updateAndGet()));
+            p.getTabList().queueDisplayName(id, TabComponent.optimized(p.getProperty(propertyName).updateAndGet()));
         }
     }
 
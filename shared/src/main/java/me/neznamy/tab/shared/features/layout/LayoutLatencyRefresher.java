@@ -24,7 +24,7 @@ public class LayoutLatencyRefresher extends TabFeature implements Refreshable {
             if (all.layoutData.view == null) continue;
             PlayerSlot slot = all.layoutData.view.getSlot(p);
             if (slot == null) continue;
-            all.getTabList().updateLatency(slot.getUniqueId(), p.getPing());
+            all.getTabList().queueLatency(slot.getUniqueId(), p.getPing());
         }
     }
 
@@ -14,6 +14,7 @@ import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.config.file.ConfigurationFile;
+import me.neznamy.tab.shared.platform.TabList;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.PlayerList;
 import me.neznamy.tab.shared.features.layout.skin.SkinManager;
@@ -112,9 +113,11 @@ public class LayoutManagerImpl extends TabFeature implements LayoutManager, Join
 
         // Unformat original entries for players who can see a layout to avoid spaces due to unparsed placeholders and such
         if (highest == null) return;
+        List<TabList.Entry> entries = new ArrayList<>();
         for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-            p.getTabList().updateDisplayName(all.getTablistId(), null);
+            entries.add(TabList.Entry.displayName(all.getTablistId(), null));
         }
+        p.getTabList().updateDisplayNames(entries);
     }
 
     @Override
@@ -44,12 +44,13 @@ public class LayoutView {
 
     public void send() {
         if (viewer.getVersion().getMinorVersion() < 8 || viewer.isBedrockPlayer()) return;
-        groups.forEach(ParentGroup::sendSlots);
+        List<TabList.Entry> entries = new ArrayList<>();
+        groups.forEach(group -> group.addSlots(entries));
         for (FixedSlot slot : fixedSlots) {
-            viewer.getTabList().addEntry(slot.createEntry(viewer));
+            entries.add(slot.createEntry(viewer));
         }
         for (int slot : emptySlots) {
-            viewer.getTabList().addEntry(new TabList.Entry(
+            entries.add(new TabList.Entry(
                     manager.getUUID(slot),
                     manager.getDirection().getEntryName(viewer, slot),
                     manager.getSkinManager().getDefaultSkin(slot),
@@ -59,6 +60,7 @@ public class LayoutView {
                     new SimpleComponent("")
             ));
         }
+        viewer.getTabList().addEntries(entries);
         tick();
     }
 
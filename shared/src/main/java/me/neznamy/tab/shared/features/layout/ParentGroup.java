@@ -3,6 +3,7 @@ package me.neznamy.tab.shared.features.layout;
 import java.util.*;
 
 import lombok.Getter;
+import me.neznamy.tab.shared.platform.TabList;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.placeholders.conditions.Condition;
 import org.jetbrains.annotations.NotNull;
@@ -50,7 +51,7 @@ public class ParentGroup {
         }
     }
     
-    public void sendSlots() {
-        playerSlots.values().forEach(s -> viewer.getTabList().addEntry(s.getSlot(viewer)));
+    public void addSlots(@NotNull List<TabList.Entry> entries) {
+        playerSlots.values().forEach(s -> entries.add(s.getSlot(viewer)));
     }
 }
\ No newline at end of file
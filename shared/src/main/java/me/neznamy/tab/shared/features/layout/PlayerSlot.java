@@ -2,7 +2,6 @@ package me.neznamy.tab.shared.features.layout;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import me.neznamy.tab.shared.chat.SimpleComponent;
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.platform.TabList;
 import me.neznamy.tab.shared.platform.TabPlayer;
@@ -42,7 +41,7 @@ public class PlayerSlot {
                     true,
                     player.getPing(),
                     0,
-                    playerList == null ? new SimpleComponent(player.getName()) : playerList.getTabFormat(player, p)
+                    playerList == null ? TabComponent.optimized(player.getName()) : playerList.getTabFormat(player, p)
             );
         } else {
             data = new TabList.Entry(
@@ -52,7 +51,7 @@ public class PlayerSlot {
                     true,
                     layout.getManager().getEmptySlotPing(),
                     0,
-                    new SimpleComponent(text)
+                    TabComponent.optimized(text)
             );
         }
         return data;
@@ -65,7 +64,7 @@ public class PlayerSlot {
             setPlayer(null);
         } else {
             if (layout.getViewer().getVersion().getMinorVersion() < 8 || layout.getViewer().isBedrockPlayer()) return;
-            layout.getViewer().getTabList().updateDisplayName(uniqueId, TabComponent.optimized(text));
+            layout.getViewer().getTabList().queueDisplayName(uniqueId, TabComponent.optimized(text));
         }
     }
 }
@@ -12,6 +12,9 @@ import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.platform.TabList;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @RequiredArgsConstructor
 public class RedisGlobalPlayerList extends RedisFeature {
 
@@ -20,11 +23,13 @@ public class RedisGlobalPlayerList extends RedisFeature {
 
     @Override
     public void onJoin(@NotNull TabPlayer player) {
+        List<TabList.Entry> entries = new ArrayList<>();
         for (RedisPlayer redis : redisSupport.getRedisPlayers().values()) {
             if (!redis.getServer().equals(player.getServer()) && shouldSee(player, redis)) {
-                player.getTabList().addEntry(getEntry(redis));
+                entries.add(getEntry(redis));
             }
         }
+        if (!entries.isEmpty()) player.getTabList().addEntries(entries);
     }
 
     @Override
@@ -12,6 +12,7 @@ import me.neznamy.tab.shared.features.PlayerList;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
 import me.neznamy.tab.shared.features.redis.message.RedisMessage;
+import me.neznamy.tab.shared.platform.TabList;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 
@@ -31,16 +32,18 @@ public class RedisPlayerList extends RedisFeature {
     @Override
     public void onJoin(@NotNull TabPlayer player) {
         if (player.getVersion().getMinorVersion() < 8) return;
+        List<TabList.Entry> entries = new ArrayList<>();
         for (RedisPlayer redis : redisSupport.getRedisPlayers().values()) {
-            player.getTabList().updateDisplayName(redis.getUniqueId(), redis.getTabFormat());
+            entries.add(TabList.Entry.displayName(redis.getUniqueId(), redis.getTabFormat()));
         }
+        if (!entries.isEmpty()) player.getTabList().updateDisplayNames(entries);
     }
 
     @Override
     public void onJoin(@NotNull RedisPlayer player) {
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
             if (viewer.getVersion().getMinorVersion() < 8) continue;
-            viewer.getTabList().updateDisplayName(player.getUniqueId(), player.getTabFormat());
+            viewer.getTabList().queueDisplayName(player.getUniqueId(), player.getTabFormat());
         }
     }
 
@@ -49,6 +52,13 @@ public class RedisPlayerList extends RedisFeature {
         onJoin(player);
     }
 
+    @Override
+    public void onQuit(@NotNull RedisPlayer player) {
+        for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
+            viewer.getTabList().removeExpectedDisplayName(player.getUniqueId());
+        }
+    }
+
     @Override
     public void write(@NotNull ByteArrayDataOutput out, @NotNull TabPlayer player) {
         out.writeUTF(player.getProperty(TabConstants.Property.TABPREFIX).get() +
@@ -66,7 +76,7 @@ public class RedisPlayerList extends RedisFeature {
         if (player.isVanished()) return;
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
             if (viewer.getVersion().getMinorVersion() < 8) continue;
-            viewer.getTabList().updateDisplayName(player.getUniqueId(), player.getTabFormat());
+            viewer.getTabList().queueDisplayName(player.getUniqueId(), player.getTabFormat());
         }
     }
 
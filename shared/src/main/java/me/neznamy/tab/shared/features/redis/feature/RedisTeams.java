@@ -15,6 +15,7 @@ import me.neznamy.tab.shared.features.redis.message.RedisMessage;
 import me.neznamy.tab.shared.platform.Scoreboard.NameVisibility;
 import me.neznamy.tab.shared.platform.Scoreboard.CollisionRule;
 import me.neznamy.tab.shared.platform.TabPlayer;
+import me.neznamy.tab.shared.util.NamePool;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -68,7 +69,7 @@ public class RedisTeams extends RedisFeature {
     public void read(@NotNull ByteArrayDataInput in, @NotNull RedisPlayer player) {
         String teamName = in.readUTF();
         teamName = checkTeamName(player, teamName.substring(0, teamName.length()-1), 65);
-        player.setTeamName(teamName);
+        player.setTeamName(NamePool.intern(teamName));
         player.setTagPrefix(in.readUTF());
         player.setTagSuffix(in.readUTF());
         player.setNameVisibility(NameVisibility.getByName(in.readUTF()));
@@ -128,7 +129,7 @@ public class RedisTeams extends RedisFeature {
             RedisPlayer target = redisSupport.getRedisPlayers().get(playerId);
             if (target == null) return; // Print warn?
             String oldTeamName = target.getTeamName();
-            String newTeamName = checkTeamName(target, teamName.substring(0, teamName.length()-1), 65);
+            String newTeamName = NamePool.intern(checkTeamName(target, teamName.substring(0, teamName.length()-1), 65));
             target.setTeamName(newTeamName);
             target.setTagPrefix(prefix);
             target.setTagSuffix(suffix);
@@ -65,6 +65,18 @@ public class ScoreRefresher extends TabFeature implements Refreshable {
         return TabComponent.optimized(player.getProperty(NUMBER_FORMAT_PROPERTY).updateAndGet());
     }
 
+    /**
+     * Returns raw number format last computed for specified player.
+     *
+     * @param   player
+     *          Player to get number format for
+     * @return  Number format currently displayed to the player
+     */
+    @NotNull
+    public String getDisplayedNumberFormat(@NotNull TabPlayer player) {
+        return player.getProperty(NUMBER_FORMAT_PROPERTY).get();
+    }
+
     @Override
     @NotNull
     public String getFeatureName() {
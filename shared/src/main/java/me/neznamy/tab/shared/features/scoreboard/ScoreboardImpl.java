@@ -155,6 +155,47 @@ public class ScoreboardImpl extends TabFeature implements me.neznamy.tab.api.sco
         TAB.getInstance().getPlaceholderManager().getTabExpansion().setScoreboardName(p, name);
     }
 
+    /**
+     * Switches the player from previously displayed scoreboard to this one. Instead of
+     * unregistering the previous scoreboard and registering this one, the objective is
+     * kept and title is only updated if it differs. Lines on the same position reuse the
+     * team and score holder of the previous line, only sending what changed.
+     *
+     * @param   previous
+     *          Scoreboard player currently sees
+     * @param   p
+     *          Player to send this scoreboard to
+     */
+    public void switchFrom(@NonNull ScoreboardImpl previous, @NonNull TabPlayer p) {
+        if (players.contains(p)) return; //already registered
+        if (!previous.players.remove(p)) {
+            addPlayer(p);
+            return;
+        }
+        String previousTitle = p.getProperty(previous.titleProperty).get();
+        for (Line line : previous.lines) {
+            ((ScoreboardLine)line).handOver(p);
+        }
+        p.setProperty(this, titleProperty, title);
+        String newTitle = p.getProperty(titleProperty).updateAndGet();
+        if (!newTitle.equals(previousTitle)) {
+            p.getScoreboard().updateObjective(
+                    ScoreboardManagerImpl.OBJECTIVE_NAME,
+                    newTitle,
+                    Scoreboard.HealthDisplay.INTEGER,
+                    new SimpleComponent("")
+            );
+        }
+        for (Line s : lines) {
+            ((ScoreboardLine)s).register(p);
+        }
+        ScoreboardLine.removeInheritedLines(p);
+        players.add(p);
+        p.scoreboardData.activeScoreboard = this;
+        recalculateScores(p);
+        TAB.getInstance().getPlaceholderManager().getTabExpansion().setScoreboardName(p, name);
+    }
+
     /**
      * Unregisters player from this scoreboard.
      *
@@ -202,8 +243,7 @@ public class ScoreboardImpl extends TabFeature implements me.neznamy.tab.api.sco
         Collections.reverse(linesReversed);
         int score = manager.getStaticNumber();
         for (Line line : linesReversed) {
-            Property pr = p.getProperty(((ScoreboardLine) line).getTextProperty());
-            if (pr.getCurrentRawValue().isEmpty() || (!pr.getCurrentRawValue().isEmpty() && !pr.get().isEmpty())) {
+            if (!((ScoreboardLine) line).isHidden(p)) {
                 p.getScoreboard().setScore(
                         ScoreboardManagerImpl.OBJECTIVE_NAME,
                         ((ScoreboardLine)line).getPlayerName(p),
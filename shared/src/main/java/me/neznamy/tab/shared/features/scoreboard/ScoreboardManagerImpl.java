@@ -8,6 +8,7 @@ import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.platform.Scoreboard;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.types.*;
+import me.neznamy.tab.shared.features.scoreboard.lines.ScoreboardLine;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,9 +38,8 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
     @Getter private final Map<String, me.neznamy.tab.api.scoreboard.Scoreboard> registeredScoreboards = new LinkedHashMap<>();
     private me.neznamy.tab.api.scoreboard.Scoreboard[] definedScoreboards;
 
-    //list of players with disabled scoreboard
-    private final List<String> sbOffPlayers = rememberToggleChoice ? TAB.getInstance().getConfiguration().getPlayerDataFile()
-            .getStringList("scoreboard-off", new ArrayList<>()) : Collections.emptyList();
+    //name of toggle storing players with toggled scoreboard
+    private static final String TOGGLE = "scoreboard-off";
 
     //active scoreboard announcement
     @Nullable
@@ -105,11 +105,11 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
             connectedPlayer.scoreboardData.joinDelayed = true;
             TAB.getInstance().getCPUManager().runTaskLater(joinDelay, getFeatureName(), TabConstants.CpuUsageCategory.PLAYER_JOIN, () -> {
                 if (connectedPlayer.scoreboardData.otherPluginScoreboard == null)
-                    setScoreboardVisible(connectedPlayer, hiddenByDefault == sbOffPlayers.contains(connectedPlayer.getName()), false);
+                    setScoreboardVisible(connectedPlayer, hiddenByDefault == isToggled(connectedPlayer), false);
                 connectedPlayer.scoreboardData.joinDelayed = false;
             });
         } else {
-            setScoreboardVisible(connectedPlayer, hiddenByDefault == sbOffPlayers.contains(connectedPlayer.getName()), false);
+            setScoreboardVisible(connectedPlayer, hiddenByDefault == isToggled(connectedPlayer), false);
         }
     }
 
@@ -124,6 +124,10 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
         ScoreboardImpl scoreboard = (ScoreboardImpl) detectHighestScoreboard(p);
         ScoreboardImpl current = p.scoreboardData.activeScoreboard;
         if (scoreboard != current) {
+            if (current != null && scoreboard != null) {
+                scoreboard.switchFrom(current, p);
+                return;
+            }
             if (current != null) {
                 current.removePlayer(p);
             }
@@ -191,10 +195,8 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
         }
     }
 
-    private void savePlayers() {
-        synchronized (sbOffPlayers) {
-            TAB.getInstance().getConfiguration().getPlayerDataFile().set("scoreboard-off", new ArrayList<>(sbOffPlayers));
-        }
+    private boolean isToggled(@NotNull TabPlayer player) {
+        return rememberToggleChoice && TAB.getInstance().getConfiguration().getToggleStore().contains(TOGGLE, player.getName());
     }
 
     @Override
@@ -294,36 +296,15 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
             if (sendToggleMessage) {
                 player.sendMessage(TAB.getInstance().getConfiguration().getMessages().getScoreboardOn(), true);
             }
-            if (rememberToggleChoice) {
-                if (hiddenByDefault) {
-                    if (!sbOffPlayers.contains(player.getName())) {
-                        sbOffPlayers.add(player.getName());
-                        savePlayers();
-                    }
-                } else {
-                    if (sbOffPlayers.remove(player.getName())) {
-                        savePlayers();
-                    }
-                }
-            }
         } else {
             player.scoreboardData.visible = false;
             unregisterScoreboard(player);
             if (sendToggleMessage) {
                 player.sendMessage(TAB.getInstance().getConfiguration().getMessages().getScoreboardOff(), true);
             }
-            if (rememberToggleChoice) {
-                if (hiddenByDefault) {
-                    if (sbOffPlayers.remove(player.getName())) {
-                        savePlayers();
-                    }
-                } else {
-                    if (!sbOffPlayers.contains(player.getName())) {
-                        sbOffPlayers.add(player.getName());
-                        savePlayers();
-                    }
-                }
-            }
+        }
+        if (rememberToggleChoice) {
+            TAB.getInstance().getConfiguration().getToggleStore().set(TOGGLE, player.getName(), visible == hiddenByDefault);
         }
         TAB.getInstance().getPlaceholderManager().getTabExpansion().setScoreboardVisible(player, visible);
     }
@@ -345,17 +326,25 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
             announcement = sb;
             for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
                 if (!hasScoreboardVisible(all)) continue;
-                previous.put(all, all.scoreboardData.activeScoreboard);
-                if (all.scoreboardData.activeScoreboard != null) all.scoreboardData.activeScoreboard.removePlayer(all);
-                sb.addPlayer(all);
+                ScoreboardImpl active = all.scoreboardData.activeScoreboard;
+                previous.put(all, active);
+                if (active == null) {
+                    sb.addPlayer(all);
+                } else if (active != sb) {
+                    sb.switchFrom(active, all);
+                }
             }
         });
         TAB.getInstance().getCPUManager().runTaskLater(duration*1000,
                 getFeatureName(), "Removing announced Scoreboard", () -> {
                     for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
                         if (!hasScoreboardVisible(all)) continue;
-                        sb.removePlayer(all);
-                        if (previous.get(all) != null) previous.get(all).addPlayer(all);
+                        ScoreboardImpl previousScoreboard = previous.get(all);
+                        if (previousScoreboard == null) {
+                            sb.removePlayer(all);
+                        } else if (previousScoreboard != sb) {
+                            previousScoreboard.switchFrom(sb, all);
+                        }
                     }
                     announcement = null;
                 });
@@ -390,5 +379,8 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
         /** Scoreboard sent by another plugin (objective name) */
         @Nullable
         public String otherPluginScoreboard;
+
+        /** Line slots of previous scoreboard not yet reused while switching scoreboards, by team name */
+        public final Map<String, ScoreboardLine.InheritedLine> inheritedLines = new HashMap<>();
     }
 }
\ No newline at end of file
@@ -2,11 +2,13 @@ package me.neznamy.tab.shared.features.scoreboard.lines;
 
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import me.neznamy.tab.shared.Limitations;
 import me.neznamy.tab.shared.Property;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.api.scoreboard.Line;
 import me.neznamy.tab.shared.features.scoreboard.ScoreRefresher;
 import me.neznamy.tab.shared.features.types.Refreshable;
@@ -15,10 +17,12 @@ import me.neznamy.tab.shared.platform.Scoreboard;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.scoreboard.ScoreboardImpl;
 import me.neznamy.tab.shared.features.scoreboard.ScoreboardManagerImpl;
+import me.neznamy.tab.shared.util.NamePool;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
-import java.util.Set;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.WeakHashMap;
 
 /**
@@ -47,7 +51,8 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
 
     private final ScoreRefresher scoreRefresher;
 
-    private final Set<TabPlayer> shownPlayers = Collections.newSetFromMap(new WeakHashMap<>());
+    /** Players this line is shown to with prefix and suffix of the line's team they see */
+    private final Map<TabPlayer, String[]> shownPlayers = new WeakHashMap<>();
     
     /**
      * Constructs new instance with given parameters
@@ -61,8 +66,8 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
         initializeText(text);
         this.parent = parent;
         this.lineNumber = lineNumber;
-        teamName = "TAB-Sidebar-" + lineNumber;
-        playerName = getPlayerName(lineNumber);
+        teamName = NamePool.intern("TAB-Sidebar-" + lineNumber);
+        playerName = NamePool.intern(getPlayerName(lineNumber));
         scoreRefresher = new ScoreRefresher(this, numberFormat);
         TAB.getInstance().getFeatureManager().registerFeature(TabConstants.Feature.scoreboardScore(parent.getName(), lineNumber), scoreRefresher);
     }
@@ -134,6 +139,23 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
      *          suffix
      */
     protected void addLine(@NonNull TabPlayer p, @NonNull String fakePlayer, @NonNull String prefix, @NonNull String suffix) {
+        InheritedLine inherited = p.scoreboardData.inheritedLines.remove(teamName);
+        if (inherited != null) {
+            if (inherited.holder.equals(fakePlayer)) {
+                // Same slot was shown by previous scoreboard, only send what changed
+                TabComponent format = scoreRefresher.getNumberFormat(p);
+                if (inherited.score != getNumber(p) || !inherited.numberFormat.equals(scoreRefresher.getDisplayedNumberFormat(p))) {
+                    p.getScoreboard().setScore(ScoreboardManagerImpl.OBJECTIVE_NAME, fakePlayer, getNumber(p), null, format);
+                }
+                shownPlayers.put(p, new String[]{prefix, suffix});
+                if (!inherited.prefix.equals(prefix) || !inherited.suffix.equals(suffix)) {
+                    updateTeam(p, prefix, suffix);
+                }
+                return;
+            }
+            p.getScoreboard().removeScore(ScoreboardManagerImpl.OBJECTIVE_NAME, inherited.holder);
+            p.getScoreboard().unregisterTeam(teamName);
+        }
         p.getScoreboard().setScore(
                 ScoreboardManagerImpl.OBJECTIVE_NAME,
                 fakePlayer,
@@ -151,7 +173,7 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
                 0,
                 EnumChatFormat.RESET
         );
-        shownPlayers.add(p);
+        shownPlayers.put(p, new String[]{prefix, suffix});
     }
     
     /**
@@ -224,7 +246,51 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
      * @return  {@code true} if shown, {@code false} if not
      */
     public boolean isShownTo(@NonNull TabPlayer player) {
-        return shownPlayers.contains(player);
+        return shownPlayers.containsKey(player);
+    }
+
+    /**
+     * Hands over the slot of this line displayed to the player to the next scoreboard without
+     * sending any packets. Line of the next scoreboard on the same position will then reuse the
+     * team and score if possible. Slots not reused are removed by {@link #removeInheritedLines(TabPlayer)}.
+     *
+     * @param   p
+     *          Player switching to another scoreboard
+     */
+    public void handOver(@NonNull TabPlayer p) {
+        String[] prefixSuffix = shownPlayers.remove(p);
+        if (prefixSuffix == null) return;
+        p.scoreboardData.inheritedLines.put(teamName, new InheritedLine(getPlayerName(p), getNumber(p),
+                scoreRefresher.getDisplayedNumberFormat(p), prefixSuffix[0], prefixSuffix[1]));
+    }
+
+    /**
+     * Removes all slots handed over by previous scoreboard which were not reused.
+     *
+     * @param   p
+     *          Player to remove slots from
+     */
+    public static void removeInheritedLines(@NonNull TabPlayer p) {
+        Iterator<Map.Entry<String, InheritedLine>> iterator = p.scoreboardData.inheritedLines.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, InheritedLine> entry = iterator.next();
+            p.getScoreboard().removeScore(ScoreboardManagerImpl.OBJECTIVE_NAME, entry.getValue().holder);
+            p.getScoreboard().unregisterTeam(entry.getKey());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns {@code true} if this line is hidden for specified player, because
+     * it has text configured, but it is empty after applying placeholders.
+     *
+     * @param   p
+     *          Player to check
+     * @return  {@code true} if hidden, {@code false} if not
+     */
+    public boolean isHidden(@NonNull TabPlayer p) {
+        Property pr = p.getProperty(textProperty);
+        return !pr.getCurrentRawValue().isEmpty() && pr.get().isEmpty();
     }
 
     /**
@@ -251,6 +317,7 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
      *          Suffix to use
      */
     protected void updateTeam(@NotNull TabPlayer player, @NotNull String prefix, @NotNull String suffix) {
+        if (shownPlayers.containsKey(player)) shownPlayers.put(player, new String[]{prefix, suffix});
         player.getScoreboard().updateTeam(
                 teamName,
                 prefix,
@@ -273,4 +340,26 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
     public String getFeatureName() {
         return parent.getFeatureName();
     }
+
+    /**
+     * Line slot shown by previous scoreboard, which may be reused by the next one.
+     */
+    @RequiredArgsConstructor
+    public static class InheritedLine {
+
+        /** Score holder of the line */
+        private final String holder;
+
+        /** Score of the line */
+        private final int score;
+
+        /** Raw number format of the line */
+        private final String numberFormat;
+
+        /** Prefix of the line's team */
+        private final String prefix;
+
+        /** Suffix of the line's team */
+        private final String suffix;
+    }
 }
\ No newline at end of file
@@ -3,14 +3,26 @@ package me.neznamy.tab.shared.features.scoreboard.lines;
 import lombok.NonNull;
 import me.neznamy.tab.shared.Limitations;
 import me.neznamy.tab.shared.Property;
+import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.rgb.RGBUtils;
 import me.neznamy.tab.shared.features.scoreboard.ScoreboardImpl;
+import me.neznamy.tab.shared.placeholders.types.ServerPlaceholderImpl;
+import me.neznamy.tab.shared.placeholders.types.TabPlaceholder;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
- * Line of text with placeholder support
+ * Line of text with placeholder support. If the text only contains server placeholders,
+ * it is rendered once per protocol version bucket and shared by all viewers. Once
+ * any of them returns nested placeholders, which may depend on viewer, the line is
+ * rendered for each viewer separately until its text is changed.
  * Limitations:
  *   1.5.x - 1.12.x: 28 - 32 characters (depending on used magic codes)
  *   1.13+: unlimited
@@ -19,6 +31,36 @@ public class StableDynamicLine extends ScoreboardLine {
 
     private final String[] EMPTY_ARRAY = new String[0];
 
+    /** Protocol buckets with different rendering result - 1.16+, 1.13 - 1.15 and 1.12- */
+    private static final int BUCKET_RGB = 0, BUCKET_LEGACY = 1, BUCKET_LEGACY_SPLIT = 2;
+
+    /** Whether text was analyzed for dependency on viewer since last change or not */
+    private boolean analyzed;
+
+    /**
+     * Placeholders used in text if it only contains server placeholders
+     * and can therefore be rendered once for all viewers, {@code null}
+     * if text depends on viewer.
+     */
+    @Nullable
+    private ServerPlaceholderImpl[] serverPlaceholders;
+
+    /**
+     * Property rendering text once for all viewers if line only contains
+     * server placeholders. It does not belong to any player, as server
+     * placeholders do not depend on one.
+     */
+    private Property sharedProperty;
+
+    /** Placeholder values shared text was last rendered with, compared by identity */
+    private String[] sharedInputs;
+
+    /** Prefix/suffix of shared text for each protocol bucket, computed on demand */
+    private final String[][] sharedSplits = new String[3][];
+
+    /** Shared text currently displayed to each viewer */
+    private final Map<TabPlayer, String> displayedSharedText = new WeakHashMap<>();
+
     /**
      * Constructs new instance with given parameters
      *
@@ -36,7 +78,7 @@ public class StableDynamicLine extends ScoreboardLine {
     @Override
     public void refresh(@NotNull TabPlayer refreshed, boolean force) {
         if (!parent.getPlayers().contains(refreshed)) return; //player has different scoreboard displayed
-        String[] prefixSuffix = replaceText(refreshed, force, false);
+        String[] prefixSuffix = serverPlaceholders != null ? replaceSharedText(refreshed, force, false) : replaceText(refreshed, force, false);
         if (prefixSuffix.length == 0) return;
         updateTeam(refreshed, prefixSuffix[0], prefixSuffix[1]);
     }
@@ -45,16 +87,125 @@ public class StableDynamicLine extends ScoreboardLine {
     public void register(@NonNull TabPlayer p) {
         p.setProperty(this, textProperty, text);
         getScoreRefresher().registerProperties(p);
-        String[] prefixSuffix = replaceText(p, true, true);
+        displayedSharedText.remove(p);
+        if (!analyzed) analyzeScope();
+        String[] prefixSuffix = serverPlaceholders != null ? replaceSharedText(p, true, true) : replaceText(p, true, true);
         if (prefixSuffix.length == 0) return;
         addLine(p, getPlayerName(), prefixSuffix[0], prefixSuffix[1]);
     }
 
     @Override
     public void unregister(@NonNull TabPlayer p) {
-        if (parent.getPlayers().contains(p) && !p.getProperty(textProperty).get().isEmpty()) {
+        if (parent.getPlayers().contains(p) && !getDisplayedText(p).isEmpty()) {
             removeLine(p, getPlayerName());
         }
+        displayedSharedText.remove(p);
+    }
+
+    @Override
+    public boolean isHidden(@NonNull TabPlayer p) {
+        return !p.getProperty(textProperty).getCurrentRawValue().isEmpty() && getDisplayedText(p).isEmpty();
+    }
+
+    /**
+     * Returns text currently displayed to the player.
+     *
+     * @param   p
+     *          Player to get displayed text of
+     * @return  Text currently displayed to the player
+     */
+    @NotNull
+    private String getDisplayedText(@NonNull TabPlayer p) {
+        String shared = displayedSharedText.get(p);
+        return shared != null ? shared : p.getProperty(textProperty).get();
+    }
+
+    /**
+     * Checks whether text only contains server placeholders. If it does, it will
+     * be rendered and split once per protocol bucket and shared by all viewers
+     * instead of being processed for each viewer separately.
+     */
+    private void analyzeScope() {
+        analyzed = true;
+        serverPlaceholders = null;
+        List<String> identifiers = TAB.getInstance().getPlaceholderManager().detectPlaceholders(text);
+        ServerPlaceholderImpl[] placeholders = new ServerPlaceholderImpl[identifiers.size()];
+        for (int i=0; i<identifiers.size(); i++) {
+            TabPlaceholder placeholder = TAB.getInstance().getPlaceholderManager().getPlaceholder(identifiers.get(i));
+            if (!(placeholder instanceof ServerPlaceholderImpl)) return;
+            placeholders[i] = (ServerPlaceholderImpl) placeholder;
+        }
+        sharedInputs = new String[placeholders.length];
+        sharedProperty = new Property(null, this, null, text, null);
+        Arrays.fill(sharedSplits, null);
+        serverPlaceholders = placeholders;
+    }
+
+    /**
+     * Re-renders shared text if any of used placeholders changed value since last render.
+     * If any placeholder output contains nested placeholders, which may depend on viewer,
+     * line stops being rendered once for all viewers until text is changed, because
+     * nested placeholders are not tracked for changes of the shared result.
+     */
+    private void updateSharedText() {
+        boolean changed = false;
+        for (int i=0; i<serverPlaceholders.length; i++) {
+            String value = serverPlaceholders[i].getLastValue();
+            if (value == sharedInputs[i]) continue;
+            for (String nested : serverPlaceholders[i].getNestedPlaceholders(value)) {
+                if (nested.equals(serverPlaceholders[i].getIdentifier())) continue;
+                serverPlaceholders = null;
+                return;
+            }
+            sharedInputs[i] = value;
+            changed = true;
+        }
+        if (changed && sharedProperty.update()) {
+            Arrays.fill(sharedSplits, null);
+        }
+    }
+
+    /**
+     * Returns prefix/suffix of shared text for protocol bucket of given player.
+     *
+     * @param   p
+     *          Player to get split text for
+     * @return  array of 2 elements for prefix/suffix
+     */
+    @NotNull
+    private String[] getSharedSplit(@NonNull TabPlayer p) {
+        int bucket = p.getVersion().supportsRGB() ? BUCKET_RGB : p.getVersion().getMinorVersion() >= 13 ? BUCKET_LEGACY : BUCKET_LEGACY_SPLIT;
+        String[] split = sharedSplits[bucket];
+        if (split == null) {
+            String replaced = sharedProperty.get();
+            if (bucket != BUCKET_RGB) replaced = RGBUtils.getInstance().convertRGBtoLegacy(replaced);
+            split = bucket == BUCKET_LEGACY_SPLIT ? split(replaced) : new String[] {replaced, ""};
+            sharedSplits[bucket] = split;
+        }
+        return split;
+    }
+
+    /**
+     * Processes shared text for given viewer. Text is only rendered again if a used
+     * placeholder changed value, otherwise rendering result is reused.
+     *
+     * @param   p
+     *          player to process text for
+     * @param   force
+     *          if action should be done despite update seemingly not needed
+     * @param   suppressToggle
+     *          if line should NOT be removed despite being empty
+     * @return  array of 2 elements for prefix/suffix
+     */
+    private String[] replaceSharedText(@NonNull TabPlayer p, boolean force, boolean suppressToggle) {
+        updateSharedText();
+        if (serverPlaceholders == null) return replaceText(p, true, suppressToggle); // Nested placeholders were detected
+        String before = displayedSharedText.get(p);
+        String replaced = sharedProperty.get();
+        if (replaced == before && !force) return EMPTY_ARRAY;
+        boolean emptyBefore = before == null ? p.getProperty(textProperty).get().isEmpty() : before.isEmpty();
+        displayedSharedText.put(p, replaced);
+        return processResult(p, replaced, getSharedSplit(p), emptyBefore, suppressToggle);
     }
 
     /**
@@ -72,13 +223,34 @@ public class StableDynamicLine extends ScoreboardLine {
     private String[] replaceText(TabPlayer p, boolean force, boolean suppressToggle) {
         Property scoreProperty = p.getProperty(textProperty);
         if (scoreProperty == null) return EMPTY_ARRAY; //not actually loaded yet (force refresh called from placeholder manager register method)
-        boolean emptyBefore = scoreProperty.get().isEmpty();
-        if (!scoreProperty.update() && !force) return EMPTY_ARRAY;
+        String shared = displayedSharedText.remove(p); // Line was rendered once for all viewers before
+        boolean emptyBefore = shared != null ? shared.isEmpty() : scoreProperty.get().isEmpty();
+        if (!scoreProperty.update() && !force && shared == null) return EMPTY_ARRAY;
         String replaced = scoreProperty.get();
         if (!p.getVersion().supportsRGB()) {
             replaced = RGBUtils.getInstance().convertRGBtoLegacy(replaced); //converting RGB to legacy here to avoid splitting in the middle of RGB code
         }
-        String[] split = split(p, replaced);
+        String[] split = p.getVersion().getMinorVersion() >= 13 ? new String[] {replaced, ""} : split(replaced);
+        return processResult(p, replaced, split, emptyBefore, suppressToggle);
+    }
+
+    /**
+     * Shows or hides the line based on new text or returns prefix/suffix to update.
+     *
+     * @param   p
+     *          player to process result for
+     * @param   replaced
+     *          new text
+     * @param   split
+     *          new text split into prefix/suffix
+     * @param   emptyBefore
+     *          whether text was empty before or not
+     * @param   suppressToggle
+     *          if line should NOT be removed despite being empty
+     * @return  array of 2 elements for prefix/suffix or empty array if no update is needed
+     */
+    private String[] processResult(@NonNull TabPlayer p, @NonNull String replaced, @NonNull String[] split,
+                                   boolean emptyBefore, boolean suppressToggle) {
         if (!replaced.isEmpty()) {
             if (emptyBefore) {
                 //was "", now it is not
@@ -99,16 +271,13 @@ public class StableDynamicLine extends ScoreboardLine {
     }
 
     /**
-     * Splits text into 2 values (prefix/suffix) based on client version and text itself
+     * Splits text into 2 values (prefix/suffix) for clients below 1.13
      *
-     * @param   p
-     *          player to split text for
      * @param   text
      *          text to split
      * @return  array of 2 elements for prefix and suffix
      */
-    private String[] split(@NonNull TabPlayer p, @NonNull String text) {
-        if (p.getVersion().getMinorVersion() >= 13) return new String[] {text, ""};
+    private String[] split(@NonNull String text) {
         int charLimit = Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13;
         if (text.length() > charLimit) {
             StringBuilder prefix = new StringBuilder(text);
@@ -131,9 +300,10 @@ public class StableDynamicLine extends ScoreboardLine {
     public void setText(@NonNull String text) {
         ensureActive();
         initializeText(text);
+        analyzeScope();
         for (TabPlayer p : parent.getPlayers()) {
             p.setProperty(this, textProperty, text);
             refresh(p, true);
         }
     }
-}
\ No newline at end of file
+}
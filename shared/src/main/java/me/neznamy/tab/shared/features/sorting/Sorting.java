@@ -28,6 +28,7 @@ import me.neznamy.tab.shared.features.sorting.types.PlaceholderHighToLow;
 import me.neznamy.tab.shared.features.sorting.types.PlaceholderLowToHigh;
 import me.neznamy.tab.shared.features.sorting.types.PlaceholderZtoA;
 import me.neznamy.tab.shared.features.sorting.types.SortingType;
+import me.neznamy.tab.shared.util.NamePool;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -141,8 +142,8 @@ public class Sorting extends TabFeature implements SortingManager, JoinListener,
             shortName.setLength(Limitations.TEAM_NAME_LENGTH-1);
         }
         String finalShortName = checkTeamName(p, shortName, 'A');
-        p.sortingData.shortTeamName = finalShortName;
-        p.sortingData.fullTeamName = fullName.append(finalShortName.charAt(finalShortName.length() - 1)).toString();
+        p.sortingData.shortTeamName = NamePool.intern(finalShortName);
+        p.sortingData.fullTeamName = NamePool.intern(fullName.append(finalShortName.charAt(finalShortName.length() - 1)).toString());
 
         // Do not randomly override note
         if (p.sortingData.forcedTeamName != null) {
@@ -208,7 +209,7 @@ public class Sorting extends TabFeature implements SortingManager, JoinListener,
         if (name != null) p.sortingData.teamNameNote = "Set using API";
         NameTag nametag = TAB.getInstance().getNameTagManager();
         if (nametag != null) nametag.unregisterTeam(p, p.sortingData.getShortTeamName());
-        p.sortingData.forcedTeamName = name;
+        p.sortingData.forcedTeamName = name == null ? null : NamePool.intern(name);
         if (nametag != null) nametag.registerTeam(p);
         if (layout != null) layout.updateTeamName(p, p.sortingData.fullTeamName);
         if (redis != null && nametag != null) redis.updateTeam(p, p.sortingData.getShortTeamName(),
@@ -1,7 +1,7 @@
 package me.neznamy.tab.shared.features.types;
 
 import lombok.Getter;
-import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.placeholders.conditions.Condition;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
@@ -12,16 +12,15 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
- * Class checking if disable-condition of each feature is met or not.
+ * Class checking if disable-condition of each feature is met or not. Condition
+ * refreshing is shared with other features using the same condition through
+ * {@link DisableConditionManager}.
  */
-public class DisableChecker extends TabFeature implements Refreshable {
+public class DisableChecker extends TabFeature implements UnLoadable {
 
     @Getter
     private final String featureName;
 
-    @Getter
-    private final String refreshDisplayName = "Refreshing disable condition";
-
     @Nullable
     private final Condition disableCondition;
 
@@ -49,13 +48,18 @@ public class DisableChecker extends TabFeature implements Refreshable {
         this.disableCondition = disableCondition;
         this.action = action;
         this.field = field;
-        if (disableCondition != null) addUsedPlaceholder(TabConstants.Placeholder.condition(disableCondition.getName()));
+        if (disableCondition != null) TAB.getInstance().getFeatureManager().getDisableConditions().subscribe(disableCondition, this);
     }
 
-    @Override
-    public void refresh(@NotNull TabPlayer refreshed, boolean force) {
-        if (disableCondition == null) return;
-        boolean disabledNow = disableCondition.isMet(refreshed);
+    /**
+     * Processes new result of disable condition evaluated for player.
+     *
+     * @param   refreshed
+     *          Player the condition was evaluated for
+     * @param   disabledNow
+     *          Whether disable condition is met now or not
+     */
+    void update(@NotNull TabPlayer refreshed, boolean disabledNow) {
         AtomicBoolean value = field.apply(refreshed);
         if (disabledNow == value.get()) return; // Condition result did not change, only placeholders inside
         value.set(disabledNow);
@@ -73,4 +77,9 @@ public class DisableChecker extends TabFeature implements Refreshable {
     public boolean isDisableConditionMet(TabPlayer p) {
         return disableCondition != null && disableCondition.isMet(p);
     }
+
+    @Override
+    public void unload() {
+        TAB.getInstance().getFeatureManager().getDisableConditions().unsubscribe(this);
+    }
 }
\ No newline at end of file
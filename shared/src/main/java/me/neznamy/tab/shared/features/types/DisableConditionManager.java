@@ -0,0 +1,87 @@
+package me.neznamy.tab.shared.features.types;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.placeholders.conditions.Condition;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Shared evaluation of disable conditions. Features using the same disable condition
+ * subscribe to a single refresh handler, which evaluates the condition once per player
+ * and refresh and then passes the result to all subscribed features in one pass.
+ */
+public class DisableConditionManager {
+
+    /** Shared handlers by condition name */
+    private final Map<String, SharedCondition> conditions = new HashMap<>();
+
+    /**
+     * Subscribes disable checker to changes of given condition.
+     *
+     * @param   condition
+     *          Disable condition of the checker
+     * @param   checker
+     *          Checker to notify about condition changes
+     */
+    public synchronized void subscribe(@NotNull Condition condition, @NotNull DisableChecker checker) {
+        SharedCondition shared = conditions.get(condition.getName());
+        if (shared == null) {
+            shared = new SharedCondition(condition);
+            conditions.put(condition.getName(), shared);
+            shared.addUsedPlaceholder(TabConstants.Placeholder.condition(condition.getName()));
+        }
+        shared.subscribers.add(checker);
+    }
+
+    /**
+     * Unsubscribes disable checker. Conditions without any subscribers left
+     * are no longer evaluated.
+     *
+     * @param   checker
+     *          Checker to unsubscribe
+     */
+    public synchronized void unsubscribe(@NotNull DisableChecker checker) {
+        Iterator<SharedCondition> iterator = conditions.values().iterator();
+        while (iterator.hasNext()) {
+            SharedCondition shared = iterator.next();
+            if (shared.subscribers.remove(checker) && shared.subscribers.isEmpty()) {
+                TAB.getInstance().getPlaceholderManager().removeUsedPlaceholders(shared);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Refresh handler of a single condition shared by all features using it.
+     */
+    @RequiredArgsConstructor
+    private static class SharedCondition implements Refreshable {
+
+        @Getter
+        private final String featureName = "Disable conditions";
+
+        @Getter
+        private final String refreshDisplayName = "Refreshing disable condition";
+
+        /** Evaluated condition */
+        @NotNull
+        private final Condition condition;
+
+        /** Checkers of features using this condition */
+        private final List<DisableChecker> subscribers = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void refresh(@NotNull TabPlayer refreshed, boolean force) {
+            boolean disabledNow = condition.isMet(refreshed);
+            for (DisableChecker checker : subscribers) {
+                checker.update(refreshed, disabledNow);
+            }
+        }
+    }
+}
@@ -17,4 +17,17 @@ public interface PacketSendListener {
      *          The packet
      */
     void onPacketSend(@NotNull TabPlayer receiver, @NotNull Object packet);
+
+    /**
+     * Returns {@code true} if this listener may need to process packets of given class,
+     * {@code false} if they can be skipped. The result must only depend on the class
+     * as it is cached by pipeline injection.
+     *
+     * @param   packetClass
+     *          Class of the packet
+     * @return  {@code true} if packet class is processed, {@code false} if not
+     */
+    default boolean isHandledPacket(@NotNull Class<?> packetClass) {
+        return true;
+    }
 }
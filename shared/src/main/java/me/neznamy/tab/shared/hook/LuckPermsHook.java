@@ -7,10 +7,19 @@ import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.util.ReflectionUtils;
 import net.luckperms.api.LuckPermsProvider;
 import net.luckperms.api.cacheddata.CachedMetaData;
+import net.luckperms.api.event.EventBus;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.node.NodeMutateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
 import net.luckperms.api.model.user.User;
 import net.luckperms.api.query.QueryOptions;
+import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -32,6 +41,31 @@ public class LuckPermsHook {
         return user.getPrimaryGroup();
     };
 
+    /**
+     * Subscribes to LuckPerms events that may change group of a player and forwards
+     * them to given callback. User data recalculation and node changes of a user
+     * affect that user only, node changes of a group may affect all players.
+     *
+     * @param   callback
+     *          Callback to forward changes to
+     * @return  Function cancelling the subscriptions
+     */
+    @NotNull
+    public Runnable subscribeGroupChanges(@NotNull Consumer<UUID> callback) {
+        EventBus bus = LuckPermsProvider.get().getEventBus();
+        List<EventSubscription<?>> subscriptions = Arrays.asList(
+                bus.subscribe(UserDataRecalculateEvent.class, e -> callback.accept(e.getUser().getUniqueId())),
+                bus.subscribe(NodeMutateEvent.class, e -> {
+                    if (e.isUser()) {
+                        callback.accept(((User) e.getTarget()).getUniqueId());
+                    } else {
+                        callback.accept(null);
+                    }
+                })
+        );
+        return () -> subscriptions.forEach(EventSubscription::close);
+    }
+
     /**
      * Returns player's prefix configured in LuckPerms
      *
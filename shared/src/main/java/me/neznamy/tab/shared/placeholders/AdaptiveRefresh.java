@@ -0,0 +1,127 @@
+package me.neznamy.tab.shared.placeholders;
+
+import lombok.Getter;
+import me.neznamy.tab.api.placeholder.Placeholder;
+import me.neznamy.tab.shared.TabConstants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive refresh intervals of placeholders. Placeholders whose value did not change
+ * for several refreshes in a row get their refresh interval doubled, up to configured
+ * maximum. As soon as a change is detected, the interval drops back to the configured
+ * one. Configured refresh interval is therefore the lower bound, which is used while
+ * the value is changing.
+ */
+public class AdaptiveRefresh {
+
+    /** Amount of refreshes in a row without any change required to double refresh interval */
+    private static final int STABLE_REFRESHES = 10;
+
+    /** Maximum refresh interval in milliseconds */
+    private final int maxInterval;
+
+    /** Statistics of all placeholders refreshed so far */
+    @Getter
+    @NotNull
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs new instance with given maximum refresh interval.
+     *
+     * @param   maxInterval
+     *          Maximum refresh interval in milliseconds
+     */
+    public AdaptiveRefresh(int maxInterval) {
+        int minimum = TabConstants.Placeholder.MINIMUM_REFRESH_INTERVAL;
+        this.maxInterval = Math.max(minimum, maxInterval / minimum * minimum);
+    }
+
+    /**
+     * Returns current refresh interval of placeholder.
+     *
+     * @param   placeholder
+     *          Placeholder to get refresh interval of
+     * @return  Current refresh interval in milliseconds
+     */
+    public int getInterval(@NotNull Placeholder placeholder) {
+        Stats s = stats.get(placeholder.getIdentifier());
+        if (s == null || s.baseInterval != placeholder.getRefresh()) return placeholder.getRefresh();
+        return s.interval;
+    }
+
+    /**
+     * Processes results of a placeholder refresh and adjusts refresh intervals.
+     *
+     * @param   refreshed
+     *          Placeholders which were refreshed
+     * @param   changed
+     *          Placeholders which changed value for at least one player
+     */
+    public void update(@NotNull Collection<Placeholder> refreshed, @NotNull Collection<? extends Placeholder> changed) {
+        for (Placeholder placeholder : refreshed) {
+            Stats s = stats.get(placeholder.getIdentifier());
+            if (s == null || s.baseInterval != placeholder.getRefresh()) {
+                s = new Stats(placeholder.getRefresh());
+                stats.put(placeholder.getIdentifier(), s);
+            }
+            s.record(changed.contains(placeholder));
+        }
+    }
+
+    /**
+     * Returns statistics of placeholder, {@code null} if it was not refreshed yet.
+     *
+     * @param   identifier
+     *          Placeholder identifier
+     * @return  Statistics of the placeholder
+     */
+    @Nullable
+    public Stats getStats(@NotNull String identifier) {
+        return stats.get(identifier);
+    }
+
+    /**
+     * Refresh statistics of a single placeholder.
+     */
+    @Getter
+    public class Stats {
+
+        /** Configured refresh interval */
+        private final int baseInterval;
+
+        /** Current refresh interval */
+        private volatile int interval;
+
+        /** Amount of refreshes done */
+        private volatile long refreshes;
+
+        /** Amount of refreshes which changed value for at least one player */
+        private volatile long changes;
+
+        /** Amount of refreshes in a row without any change */
+        private int unchanged;
+
+        private Stats(int baseInterval) {
+            this.baseInterval = baseInterval;
+            interval = baseInterval;
+        }
+
+        private void record(boolean changed) {
+            refreshes++;
+            if (changed) {
+                changes++;
+                unchanged = 0;
+                interval = baseInterval;
+                return;
+            }
+            if (++unchanged < STABLE_REFRESHES || interval >= maxInterval) return;
+            unchanged = 0;
+            interval = Math.min(interval * 2, Math.max(baseInterval, maxInterval));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package me.neznamy.tab.shared.placeholders;
+
+import lombok.Getter;
+import me.neznamy.tab.api.placeholder.Placeholder;
+import me.neznamy.tab.shared.TAB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh time budget of placeholders. Placeholders taking longer than the budget to refresh
+ * for all players are isolated into a separate thread, so they do not delay refreshing of other
+ * placeholders. While they are being refreshed, features keep using their last known values.
+ * Isolated placeholders which keep exceeding the budget of a single value trip a circuit breaker
+ * and stop being refreshed for a while, after which they are given another chance. The value
+ * budget is measured per value, so placeholders are not paused only because many players are online.
+ * Isolated placeholders staying within the budget for long enough are moved back.
+ */
+public class PlaceholderBudget {
+
+    /** Amount of budget overruns in a row of an isolated placeholder to trip the breaker */
+    private static final int TRIP_OVERRUNS = 5;
+
+    /** Amount of refreshes in a row within budget of an isolated placeholder to move it back */
+    private static final int RECOVERY_REFRESHES = 20;
+
+    /** Refresh time budget of a placeholder for all players in nanoseconds */
+    private final long budget;
+
+    /** Average time budget of a single value of isolated placeholder in nanoseconds */
+    private final long valueBudget;
+
+    /** Time tripped placeholders are not refreshed for in milliseconds */
+    private final long cooldown;
+
+    /** Breakers of all placeholders which exceeded the budget at least once */
+    @Getter
+    @NotNull
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   budgetMillis
+     *          Refresh time budget of a placeholder for all players in milliseconds
+     * @param   valueBudgetMillis
+     *          Average time budget of a single value of isolated placeholder in milliseconds
+     * @param   cooldownSeconds
+     *          Time tripped placeholders are not refreshed for in seconds
+     */
+    public PlaceholderBudget(int budgetMillis, int valueBudgetMillis, int cooldownSeconds) {
+        budget = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        valueBudget = TimeUnit.MILLISECONDS.toNanos(valueBudgetMillis);
+        cooldown = TimeUnit.SECONDS.toMillis(cooldownSeconds);
+    }
+
+    /**
+     * Returns current state of placeholder. If cooldown of a tripped
+     * placeholder has passed, it is isolated again for another attempt.
+     *
+     * @param   placeholder
+     *          Placeholder to get state of
+     * @return  Current state of the placeholder
+     */
+    @NotNull
+    public State getState(@NotNull Placeholder placeholder) {
+        Breaker breaker = breakers.get(placeholder.getIdentifier());
+        if (breaker == null) return State.NORMAL;
+        synchronized (breaker) {
+            if (breaker.state == State.TRIPPED && System.currentTimeMillis() >= breaker.retryAt) {
+                breaker.state = State.ISOLATED;
+                breaker.overruns = TRIP_OVERRUNS - 1; // Trip again immediately if it is still too slow
+            }
+            return breaker.state;
+        }
+    }
+
+    /**
+     * Records time placeholder took to refresh and updates its state. Placeholders exceeding
+     * the budget for all players are isolated, isolated placeholders exceeding the budget
+     * of a single value repeatedly are tripped.
+     *
+     * @param   identifier
+     *          Placeholder identifier
+     * @param   nanoTime
+     *          Time it took to refresh the placeholder for all players in nanoseconds
+     * @param   valueNanoTime
+     *          Average time it took to retrieve a single value in nanoseconds
+     */
+    public void record(@NotNull String identifier, long nanoTime, long valueNanoTime) {
+        Breaker breaker = breakers.get(identifier);
+        if (breaker == null) {
+            if (nanoTime <= budget) return;
+            breaker = breakers.computeIfAbsent(identifier, Breaker::new);
+        }
+        synchronized (breaker) {
+            breaker.lastTime = nanoTime;
+            if (nanoTime <= budget) {
+                if (breaker.state == State.ISOLATED && ++breaker.withinBudget >= RECOVERY_REFRESHES) {
+                    breakers.remove(identifier);
+                    log(identifier, "is within refresh budget again and was moved back to the placeholder refreshing thread", false);
+                    return;
+                }
+            } else {
+                breaker.withinBudget = 0;
+                breaker.totalOverruns++;
+                if (breaker.state == State.NORMAL) {
+                    breaker.state = State.ISOLATED;
+                    log(identifier, "took " + TimeUnit.NANOSECONDS.toMillis(nanoTime) + "ms to refresh and was moved to a separate thread", false);
+                    return;
+                }
+            }
+            if (breaker.state != State.ISOLATED) return;
+            if (valueNanoTime <= valueBudget) {
+                breaker.overruns = 0;
+                return;
+            }
+            if (++breaker.overruns >= TRIP_OVERRUNS) {
+                breaker.state = State.TRIPPED;
+                breaker.retryAt = System.currentTimeMillis() + cooldown;
+                log(identifier, "exceeded value refresh budget " + TRIP_OVERRUNS + " times in a row (last refresh took " +
+                        TimeUnit.NANOSECONDS.toMillis(valueNanoTime) + "ms per value) and will not be refreshed for " +
+                        TimeUnit.MILLISECONDS.toSeconds(cooldown) + " seconds", true);
+            }
+        }
+    }
+
+    private void log(@NotNull String identifier, @NotNull String message, boolean intoConsoleToo) {
+        TAB.getInstance().getErrorManager().placeholderBudgetExceeded("Placeholder " + identifier + " " + message, intoConsoleToo);
+    }
+
+    /**
+     * State of a placeholder.
+     */
+    public enum State {
+
+        /** Placeholder is refreshed in placeholder refreshing thread together with others */
+        NORMAL,
+
+        /** Placeholder is refreshed in a separate thread */
+        ISOLATED,
+
+        /** Placeholder is not refreshed until cooldown passes */
+        TRIPPED
+    }
+
+    /**
+     * Circuit breaker of a single placeholder.
+     */
+    @Getter
+    public static class Breaker {
+
+        /** Placeholder identifier */
+        private final String identifier;
+
+        /** Current state */
+        private volatile State state = State.NORMAL;
+
+        /** Amount of budget overruns in a row */
+        private int overruns;
+
+        /** Amount of refreshes within budget in a row */
+        private int withinBudget;
+
+        /** Amount of budget overruns in total */
+        private volatile long totalOverruns;
+
+        /** Time the last refresh took in nanoseconds */
+        private volatile long lastTime;
+
+        /** Time when tripped placeholder will be refreshed again */
+        private long retryAt;
+
+        private Breaker(@NotNull String identifier) {
+            this.identifier = identifier;
+        }
+    }
+}
@@ -38,16 +38,21 @@ public class PlaceholderRefreshTask implements Runnable {
     /** Time it took placeholders to retrieve value (in nanoseconds) */
     private final Map<String, Long> usedTime = new HashMap<>();
 
+    /** Average time it took placeholders to retrieve a single value (in nanoseconds) */
+    private final Map<String, Long> evaluationTime = new HashMap<>();
+
     @Override
     public void run() {
         TabPlayer[] players = TAB.getInstance().getOnlinePlayers();
         for (Placeholder placeholder : placeholdersToRefresh) {
             long nanoTime = 0;
+            int evaluations = 0;
             if (placeholder instanceof ServerPlaceholderImpl) {
                 ServerPlaceholderImpl serverPlaceholder = (ServerPlaceholderImpl) placeholder;
                 long startTime = System.nanoTime();
                 Object result = serverPlaceholder.request();
                 nanoTime += System.nanoTime()-startTime;
+                evaluations++;
                 serverPlaceholderResults.put(serverPlaceholder, result);
             }
             if (placeholder instanceof PlayerPlaceholderImpl) {
@@ -57,6 +62,7 @@ public class PlaceholderRefreshTask implements Runnable {
                     long startTime = System.nanoTime();
                     Object result = playerPlaceholder.request(player);
                     nanoTime += System.nanoTime()-startTime;
+                    evaluations++;
                     playerResults.put(player, result);
                 }
                 playerPlaceholderResults.put(playerPlaceholder, playerResults);
@@ -70,6 +76,7 @@ public class PlaceholderRefreshTask implements Runnable {
                         long startTime = System.nanoTime();
                         Object result = relationalPlaceholder.request(viewer, target);
                         nanoTime += System.nanoTime()-startTime;
+                        evaluations++;
                         targetMap.put(target, result);
                     }
                     viewerMap.put(viewer, targetMap);
@@ -78,6 +85,7 @@ public class PlaceholderRefreshTask implements Runnable {
                 relationalPlaceholderResults.put(relationalPlaceholder, viewerMap);
             }
             usedTime.put(placeholder.getIdentifier(), nanoTime);
+            evaluationTime.put(placeholder.getIdentifier(), evaluations == 0 ? 0 : nanoTime / evaluations);
         }
     }
 }
@@ -3,9 +3,11 @@ package me.neznamy.tab.shared.platform;
 import lombok.*;
 import me.neznamy.tab.shared.Limitations;
 import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.chat.rgb.RGBUtils;
+import me.neznamy.tab.shared.util.NamePool;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -25,16 +27,19 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
     /** Static to prevent spam when packet is sent to each player */
     private static String lastTeamOverrideMessage;
 
+    /** Delay in milliseconds between the first buffered change and sending all buffered changes, one tick */
+    private static final int FLUSH_DELAY = 50;
+
     /** Player this scoreboard belongs to */
     protected final T player;
 
-    /** Scoreboard teams player has registered */
+    /** Scoreboard teams player has registered, names are pooled using {@link NamePool} */
     private final Set<String> registeredTeams = new HashSet<>();
 
     /** Scoreboard objectives player has registered */
     private final Set<String> registeredObjectives = new HashSet<>();
 
-    /** Player-to-Team map of expected teams of players */
+    /** Player-to-Team map of expected teams of players, names are pooled using {@link NamePool} */
     private final Map<String, String> expectedTeams = new HashMap<>();
 
     /** Map of blocked team adds, key is player and value is team name */
@@ -51,6 +56,22 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
     @Setter
     private boolean antiOverrideTeams;
 
+    /** Whether team, score and objective changes are buffered and sent once per tick or sent immediately */
+    @Getter
+    private boolean buffered = TAB.getInstance().getConfiguration().isScoreboardPacketBuffering();
+
+    /** Buffered team changes, key is team name */
+    private final Map<String, PendingTeam> pendingTeams = new LinkedHashMap<>();
+
+    /** Buffered objective updates, key is objective name */
+    private final Map<String, PendingObjective> pendingObjectives = new LinkedHashMap<>();
+
+    /** Buffered scores, key is objective name, then score holder */
+    private final Map<String, Map<String, PendingScore<C>>> pendingScores = new LinkedHashMap<>();
+
+    /** Whether sending of buffered changes is already scheduled or not */
+    private boolean flushScheduled;
+
     /**
      * Sets display slot of an objective.
      *
@@ -85,13 +106,17 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
             error("Tried to update score (%s) without the existence of its requested objective '%s' to player ", scoreHolder, objective);
             return;
         }
-        setScore0(
-                objective,
-                scoreHolder,
-                score,
-                displayName == null ? null : displayName.convert(player.getVersion()),
-                numberFormat == null ? null : numberFormat.convert(player.getVersion())
-        );
+        C convertedDisplayName = displayName == null ? null : displayName.convert(player.getVersion());
+        C convertedNumberFormat = numberFormat == null ? null : numberFormat.convert(player.getVersion());
+        if (buffered) {
+            synchronized (this) {
+                pendingScores.computeIfAbsent(objective, o -> new LinkedHashMap<>())
+                        .put(NamePool.intern(scoreHolder), new PendingScore<>(score, convertedDisplayName, convertedNumberFormat));
+                scheduleFlush();
+            }
+            return;
+        }
+        setScore0(objective, scoreHolder, score, convertedDisplayName, convertedNumberFormat);
     }
 
     /**
@@ -108,6 +133,10 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
             error("Tried to remove score (%s) without the existence of its requested objective '%s' to player ", scoreHolder, objective);
             return;
         }
+        synchronized (this) {
+            Map<String, PendingScore<C>> scores = pendingScores.get(objective);
+            if (scores != null) scores.remove(scoreHolder);
+        }
         removeScore0(objective, scoreHolder);
     }
 
@@ -126,7 +155,7 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
     public final void registerObjective(@NonNull String objectiveName, @NonNull String title, int display,
                                   @Nullable TabComponent numberFormat) {
         if (frozen) return;
-        if (!registeredObjectives.add(objectiveName)) {
+        if (!registeredObjectives.add(NamePool.intern(objectiveName))) {
             error("Tried to register duplicated objective %s to player ", objectiveName);
             return;
         }
@@ -150,6 +179,10 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
             error("Tried to unregister non-existing objective %s for player ", objectiveName);
             return;
         }
+        synchronized (this) {
+            pendingObjectives.remove(objectiveName);
+            pendingScores.remove(objectiveName);
+        }
         unregisterObjective0(objectiveName);
     }
 
@@ -172,6 +205,14 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
             error("Tried to modify non-existing objective %s for player ", objectiveName);
             return;
         }
+        if (buffered) {
+            synchronized (this) {
+                pendingObjectives.put(objectiveName, new PendingObjective(cutTo(title, Limitations.SCOREBOARD_TITLE_PRE_1_13),
+                        display, numberFormat));
+                scheduleFlush();
+            }
+            return;
+        }
         updateObjective0(
                 objectiveName,
                 cutTo(title, Limitations.SCOREBOARD_TITLE_PRE_1_13),
@@ -206,12 +247,23 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
                                    @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
                                    @NonNull Collection<String> players, int options, @NonNull EnumChatFormat color) {
         if (frozen) return;
-        if (!registeredTeams.add(name)) {
+        String pooledName = NamePool.intern(name);
+        if (!registeredTeams.add(pooledName)) {
             error("Tried to register duplicated team %s to player ", name);
             return;
         }
         for (String player : players) {
-            expectedTeams.put(player, name);
+            expectedTeams.put(NamePool.intern(player), pooledName);
+        }
+        if (buffered) {
+            synchronized (this) {
+                PendingTeam team = pendingTeams.computeIfAbsent(name, n -> new PendingTeam());
+                team.register = new TeamProperties(cutTo(prefix, Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13),
+                        cutTo(suffix, Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13), visibility, collision, players, options, color);
+                team.update = null;
+                scheduleFlush();
+            }
+            return;
         }
         registerTeam0(
                 name,
@@ -243,6 +295,25 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
                 break;
             }
         }
+        if (buffered) {
+            synchronized (this) {
+                PendingTeam team = pendingTeams.get(teamName);
+                if (team != null && team.register != null && !team.unregister) {
+                    // Registered and unregistered within the same tick, nothing to send
+                    pendingTeams.remove(teamName);
+                    return;
+                }
+                if (team == null) {
+                    team = new PendingTeam();
+                    pendingTeams.put(teamName, team);
+                }
+                team.unregister = true;
+                team.register = null;
+                team.update = null;
+                scheduleFlush();
+            }
+            return;
+        }
         unregisterTeam0(teamName);
     }
 
@@ -274,6 +345,22 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
             error("Tried to modify non-existing team %s for player ", name);
             return;
         }
+        if (buffered) {
+            synchronized (this) {
+                PendingTeam team = pendingTeams.computeIfAbsent(name, n -> new PendingTeam());
+                TeamProperties properties = new TeamProperties(cutTo(prefix, Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13),
+                        cutTo(suffix, Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13), visibility, collision,
+                        team.register == null ? Collections.emptyList() : team.register.players, options, color);
+                if (team.register != null) {
+                    // Not sent yet, register it with new properties directly
+                    team.register = properties;
+                } else {
+                    team.update = properties;
+                }
+                scheduleFlush();
+            }
+            return;
+        }
         updateTeam0(
                 name,
                 cutTo(prefix, Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13),
@@ -285,6 +372,129 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
         );
     }
 
+    /**
+     * Replaces a member of a team without re-registering the team, used when
+     * player's nickname changes. Only available if {@link #supportsTeamMemberChanges()}
+     * returns {@code true}.
+     *
+     * @param   teamName
+     *          Team name
+     * @param   oldName
+     *          Name of member to remove
+     * @param   newName
+     *          Name of member to add
+     */
+    public final void renameTeamMember(@NonNull String teamName, @NonNull String oldName, @NonNull String newName) {
+        if (frozen) return;
+        if (!registeredTeams.contains(teamName)) {
+            error("Tried to change members of non-existing team %s for player ", teamName);
+            return;
+        }
+        flushTeam(teamName);
+        // Let our own removal pass through anti-override, since it is no longer expected
+        if (teamName.equals(expectedTeams.get(oldName))) expectedTeams.remove(oldName);
+        allowedTeamAdds.put(oldName, teamName);
+        changeTeamMember0(teamName, TeamAction.REMOVE_PLAYER, oldName);
+        expectedTeams.put(NamePool.intern(newName), NamePool.intern(teamName));
+        changeTeamMember0(teamName, TeamAction.ADD_PLAYER, newName);
+    }
+
+    /**
+     * Returns {@code true} if this scoreboard can add and remove team members
+     * without re-registering the team, {@code false} if not.
+     *
+     * @return  {@code true} if team members can be changed, {@code false} if not
+     */
+    public boolean supportsTeamMemberChanges() {
+        return false; // Overridden by platforms which support it
+    }
+
+    /**
+     * Enables or disables buffering of team, score and objective changes. When
+     * disabling, all buffered changes are sent immediately.
+     *
+     * @param   buffered
+     *          {@code true} to buffer changes, {@code false} to send them immediately
+     */
+    public void setBuffered(boolean buffered) {
+        this.buffered = buffered;
+        if (!buffered) flush();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) return;
+        flushScheduled = true;
+        TAB.getInstance().getCPUManager().runTaskLater(FLUSH_DELAY, "Scoreboard", TabConstants.CpuUsageCategory.SCOREBOARD_FLUSH, this::flush);
+    }
+
+    /**
+     * Sends all buffered changes. Teams are sent first, then objective updates and scores.
+     */
+    public void flush() {
+        Map<String, PendingTeam> teams;
+        Map<String, PendingObjective> objectives;
+        Map<String, Map<String, PendingScore<C>>> scores;
+        synchronized (this) {
+            flushScheduled = false;
+            if (frozen || !player.isOnline()) {
+                clearPending();
+                return;
+            }
+            teams = new LinkedHashMap<>(pendingTeams);
+            objectives = new LinkedHashMap<>(pendingObjectives);
+            scores = new LinkedHashMap<>(pendingScores);
+            clearPending();
+        }
+        for (Map.Entry<String, PendingTeam> entry : teams.entrySet()) {
+            sendTeam(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, PendingObjective> entry : objectives.entrySet()) {
+            PendingObjective objective = entry.getValue();
+            updateObjective0(entry.getKey(), objective.title, objective.display,
+                    objective.numberFormat == null ? null : objective.numberFormat.convert(player.getVersion()));
+        }
+        for (Map.Entry<String, Map<String, PendingScore<C>>> objective : scores.entrySet()) {
+            for (Map.Entry<String, PendingScore<C>> entry : objective.getValue().entrySet()) {
+                PendingScore<C> score = entry.getValue();
+                setScore0(objective.getKey(), entry.getKey(), score.score, score.displayName, score.numberFormat);
+            }
+        }
+    }
+
+    /**
+     * Sends buffered changes of a single team, used before sending a change
+     * which must not be reordered with them.
+     *
+     * @param   teamName
+     *          Team name
+     */
+    private void flushTeam(@NonNull String teamName) {
+        PendingTeam team;
+        synchronized (this) {
+            team = pendingTeams.remove(teamName);
+        }
+        if (team != null) sendTeam(teamName, team);
+    }
+
+    private void sendTeam(@NonNull String name, @NonNull PendingTeam team) {
+        if (team.unregister) unregisterTeam0(name);
+        TeamProperties register = team.register;
+        if (register != null) {
+            registerTeam0(name, register.prefix, register.suffix, register.visibility, register.collision,
+                    register.players, register.options, register.color);
+        }
+        TeamProperties update = team.update;
+        if (update != null) {
+            updateTeam0(name, update.prefix, update.suffix, update.visibility, update.collision, update.options, update.color);
+        }
+    }
+
+    private synchronized void clearPending() {
+        pendingTeams.clear();
+        pendingObjectives.clear();
+        pendingScores.clear();
+    }
+
     /**
      * Prints a debug message if attempted to perform an invalid operation.
      *
@@ -302,6 +512,7 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
      */
     public void freeze() {
         frozen = true;
+        clearPending();
     }
 
     /**
@@ -310,6 +521,7 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
     public void unfreeze() {
         registeredTeams.clear();
         registeredObjectives.clear();
+        clearPending();
         frozen = false;
     }
 
@@ -351,6 +563,19 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
         // Implemented by platforms with pipeline injection
     }
 
+    /**
+     * Returns {@code true} if packets of given class may need to be processed
+     * by {@link #onPacketSend(Object)}, {@code false} if they can be skipped.
+     * The result must only depend on the class and is cached by pipeline injection.
+     *
+     * @param   packetClass
+     *          Class of the packet
+     * @return  {@code true} if packet class is processed, {@code false} if not
+     */
+    public boolean isHandledPacket(@NonNull Class<?> packetClass) {
+        return true; // Unknown by default, overridden by platforms with pipeline injection
+    }
+
     /**
      * Returns {@code true} if this scoreboard contains team with specified name,
      * {@code false} if not.
@@ -398,7 +623,7 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
             return newList;
         }
         if (action == TeamAction.REMOVE_PLAYER) {
-            // TAB does not send remove player, making checks easier
+            // TAB only sends remove player when renaming a member, which marks it as allowed
             for (String entry : players) {
                 String expectedTeam = expectedTeams.get(entry);
                 if (expectedTeam != null) {
@@ -467,6 +692,20 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
                                         @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
                                         int options, @NonNull EnumChatFormat color);
 
+    /**
+     * Adds or removes a team member. Platforms which cannot change members of an existing
+     * team re-register the team with the new member list and return {@code false}
+     * from {@link #supportsTeamMemberChanges()}.
+     *
+     * @param   name
+     *          Team name
+     * @param   action
+     *          {@link TeamAction#ADD_PLAYER} or {@link TeamAction#REMOVE_PLAYER}
+     * @param   member
+     *          Member to add or remove
+     */
+    protected abstract void changeTeamMember0(@NonNull String name, int action, @NonNull String member);
+
     /**
      * Team collision rule enum.
      */
@@ -567,6 +806,61 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
         public static final int UPDATE = 2;
     }
 
+    /**
+     * Buffered changes of a team. Unregister is sent first, then register and then update.
+     */
+    private static class PendingTeam {
+
+        /** Whether team should be unregistered or not */
+        private boolean unregister;
+
+        /** Properties to register team with, {@code null} if not registering */
+        @Nullable private TeamProperties register;
+
+        /** Properties to update team with, {@code null} if not updating */
+        @Nullable private TeamProperties update;
+    }
+
+    /**
+     * Team properties waiting to be sent.
+     */
+    @RequiredArgsConstructor
+    private static class TeamProperties {
+
+        @NonNull private final String prefix;
+        @NonNull private final String suffix;
+        @NonNull private final NameVisibility visibility;
+        @NonNull private final CollisionRule collision;
+        @NonNull private final Collection<String> players;
+        private final int options;
+        @NonNull private final EnumChatFormat color;
+    }
+
+    /**
+     * Objective update waiting to be sent.
+     */
+    @RequiredArgsConstructor
+    private static class PendingObjective {
+
+        @NonNull private final String title;
+        private final int display;
+        @Nullable private final TabComponent numberFormat;
+    }
+
+    /**
+     * Score waiting to be sent.
+     *
+     * @param   <C>
+     *          Platform's component class
+     */
+    @RequiredArgsConstructor
+    private static class PendingScore<C> {
+
+        private final int score;
+        @Nullable private final C displayName;
+        @Nullable private final C numberFormat;
+    }
+
     /**
      * Class containing scoreboard objective health display constants.
      */
@@ -3,6 +3,7 @@ package me.neznamy.tab.shared.platform;
 import lombok.*;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.chat.SimpleComponent;
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
@@ -10,6 +11,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Interface for managing tablist entries.
@@ -25,6 +27,12 @@ public abstract class TabList<P extends TabPlayer, C> {
     /** Name of the textures property in game profile */
     public static final String TEXTURES_PROPERTY = "textures";
 
+    /** Override value saying no display name is expected, since map does not support null values */
+    private static final TabComponent NO_DISPLAY_NAME = new SimpleComponent("");
+
+    /** Delay in milliseconds between the first queued change and sending all queued changes, one tick */
+    private static final int FLUSH_DELAY = 50;
+
     /** Player this tablist belongs to */
     protected final P player;
 
@@ -32,20 +40,37 @@ public abstract class TabList<P extends TabPlayer, C> {
     @Setter
     protected boolean antiOverride;
 
-    /** Expected names based on configuration, saving to restore them if another plugin overrides them */
-    private final Map<TabPlayer, C> expectedDisplayNames = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * Expected names which differ from the name expected by all viewers (such as relational formats),
+     * key is tablist entry ID. Most entries use the shared value stored in the target itself.
+     */
+    private final Map<UUID, TabComponent> expectedDisplayNameOverrides = new ConcurrentHashMap<>();
 
     private final RedisSupport redisSupport = TAB.getInstance().getFeatureManager().getFeature(TabConstants.Feature.REDIS_BUNGEE);
 
-    /** Expected names based on configuration, saving to restore them if another plugin overrides them */
-    private final Map<RedisPlayer, C> expectedRedisDisplayNames = Collections.synchronizedMap(new WeakHashMap<>());
-
     /** Expected header sent by the plugin */
     private C expectedHeader;
 
     /** Expected footer sent by the plugin */
     private C expectedFooter;
 
+    /** Queued changes waiting to be sent, key is tablist entry ID */
+    private Map<UUID, PendingChange> pendingChanges = new LinkedHashMap<>();
+
+    /** Whether sending of queued changes is already scheduled or not */
+    private boolean flushScheduled;
+
+    /**
+     * Removes entry from the TabList.
+     *
+     * @param   entry
+     *          Entry to remove
+     */
+    public void removeEntry(@NonNull UUID entry) {
+        discardPendingChanges(entry);
+        removeEntry0(entry);
+    }
+
     /**
      * Removes entries from the TabList.
      *
@@ -53,7 +78,10 @@ public abstract class TabList<P extends TabPlayer, C> {
      *          Entries to remove
      */
     public void removeEntries(@NonNull Collection<UUID> entries) {
-        entries.forEach(this::removeEntry);
+        for (UUID entry : entries) {
+            discardPendingChanges(entry);
+        }
+        removeEntries0(entries);
     }
 
     /**
@@ -63,7 +91,194 @@ public abstract class TabList<P extends TabPlayer, C> {
      *          Entries to add
      */
     public void addEntries(@NonNull Collection<Entry> entries) {
-        entries.forEach(this::addEntry);
+        for (Entry entry : entries) {
+            discardPendingChanges(entry.uniqueId);
+            setExpectedDisplayName(entry.getUniqueId(), entry.displayName);
+        }
+        addEntries0(entries);
+
+        if (player.getVersion().getMinorVersion() == 8) {
+            // Compensation for 1.8.0 client sided bug
+            updateDisplayNames0(entries);
+        }
+    }
+
+    /**
+     * Updates display names of specified entries. Using {@code null} display name
+     * makes it undefined and scoreboard team prefix/suffix will be visible instead.
+     *
+     * @param   entries
+     *          Entries with new display names
+     */
+    public void updateDisplayNames(@NonNull Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            discardPendingChange(entry.uniqueId, Action.UPDATE_DISPLAY_NAME);
+        }
+        sendDisplayNames(entries);
+    }
+
+    /**
+     * Updates latency of specified entries.
+     *
+     * @param   entries
+     *          Entries with new latency
+     */
+    public void updateLatencies(@NonNull Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            discardPendingChange(entry.uniqueId, Action.UPDATE_LATENCY);
+        }
+        updateLatencies0(entries);
+    }
+
+    /**
+     * Updates game mode of specified entries.
+     *
+     * @param   entries
+     *          Entries with new game mode
+     */
+    public void updateGameModes(@NonNull Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            discardPendingChange(entry.uniqueId, Action.UPDATE_GAME_MODE);
+        }
+        updateGameModes0(entries);
+    }
+
+    /**
+     * Updates latency of specified entry.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   latency
+     *          New latency
+     */
+    public void updateLatency(@NonNull UUID entry, int latency) {
+        discardPendingChange(entry, Action.UPDATE_LATENCY);
+        updateLatency0(entry, latency);
+    }
+
+    /**
+     * Updates game mode of specified entry.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   gameMode
+     *          New game mode
+     */
+    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+        discardPendingChange(entry, Action.UPDATE_GAME_MODE);
+        updateGameMode0(entry, gameMode);
+    }
+
+    /**
+     * Updates listed flag of specified entry (1.19.3+).
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   listed
+     *          New listed flag
+     */
+    public void updateListed(@NonNull UUID entry, boolean listed) {
+        discardPendingChange(entry, Action.UPDATE_LISTED);
+        updateListed0(entry, listed);
+    }
+
+    /**
+     * Removes specified entries from the TabList without discarding queued changes.
+     * Removes one entry at a time by default, overridden by platforms which can
+     * remove multiple entries at once.
+     *
+     * @param   entries
+     *          Entries to remove
+     */
+    protected void removeEntries0(@NonNull Collection<UUID> entries) {
+        for (UUID entry : entries) {
+            removeEntry0(entry);
+        }
+    }
+
+    /**
+     * Updates latency of specified entries without discarding queued changes.
+     * Sends one entry at a time by default, overridden by platforms which can
+     * send multiple entries at once.
+     *
+     * @param   entries
+     *          Entries with new latency
+     */
+    protected void updateLatencies0(@NonNull Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            updateLatency0(entry.uniqueId, entry.latency);
+        }
+    }
+
+    /**
+     * Updates game mode of specified entries without discarding queued changes.
+     * Sends one entry at a time by default, overridden by platforms which can
+     * send multiple entries at once.
+     *
+     * @param   entries
+     *          Entries with new game mode
+     */
+    protected void updateGameModes0(@NonNull Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            updateGameMode0(entry.uniqueId, entry.gameMode);
+        }
+    }
+
+    /**
+     * Updates listed flag of specified entries without discarding queued changes.
+     * Sends one entry at a time by default, overridden by platforms which can
+     * send multiple entries at once.
+     *
+     * @param   entries
+     *          Entries with new listed flag
+     */
+    protected void updateListedFlags0(@NonNull Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            updateListed0(entry.uniqueId, entry.listed);
+        }
+    }
+
+    /**
+     * Updates display names of specified entries and their expected values
+     * without discarding queued changes.
+     *
+     * @param   entries
+     *          Entries with new display names
+     */
+    private void sendDisplayNames(@NonNull Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            setExpectedDisplayName(entry.getUniqueId(), entry.displayName);
+        }
+        updateDisplayNames0(entries);
+    }
+
+    /**
+     * Adds specified entries into the TabList without processing anti-override.
+     * Sends one entry at a time by default, overridden by platforms which can
+     * send multiple entries at once.
+     *
+     * @param   entries
+     *          Entries to add
+     */
+    protected void addEntries0(@NonNull Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            addEntry0(entry.uniqueId, entry.name, entry.skin, entry.listed, entry.latency, entry.gameMode,
+                    entry.displayName == null ? null : toComponent(entry.displayName));
+        }
+    }
+
+    /**
+     * Updates display names of specified entries without processing anti-override.
+     * Sends one entry at a time by default, overridden by platforms which can
+     * send multiple entries at once.
+     *
+     * @param   entries
+     *          Entries with new display names
+     */
+    protected void updateDisplayNames0(@NonNull Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            updateDisplayName0(entry.uniqueId, entry.displayName == null ? null : toComponent(entry.displayName));
+        }
     }
 
     /**
@@ -76,9 +291,9 @@ public abstract class TabList<P extends TabPlayer, C> {
      *          New display name
      */
     public void updateDisplayName(@NonNull UUID entry, @Nullable TabComponent displayName) {
-        C component = displayName == null ? null : toComponent(displayName);
-        setExpectedDisplayName(entry, component);
-        updateDisplayName0(entry, component);
+        discardPendingChange(entry, Action.UPDATE_DISPLAY_NAME);
+        setExpectedDisplayName(entry, displayName);
+        updateDisplayName0(entry, displayName == null ? null : toComponent(displayName));
     }
 
     /**
@@ -88,8 +303,9 @@ public abstract class TabList<P extends TabPlayer, C> {
      *          Entry to add
      */
     public void addEntry(@NonNull Entry entry) {
+        discardPendingChanges(entry.uniqueId);
         C component = entry.displayName == null ? null : toComponent(entry.displayName);
-        setExpectedDisplayName(entry.getUniqueId(), component);
+        setExpectedDisplayName(entry.getUniqueId(), entry.displayName);
         addEntry0(entry.uniqueId, entry.name, entry.skin, entry.listed, entry.latency, entry.gameMode, component);
 
         if (player.getVersion().getMinorVersion() == 8) {
@@ -98,6 +314,137 @@ public abstract class TabList<P extends TabPlayer, C> {
         }
     }
 
+    /**
+     * Queues display name change of an entry. All changes queued within one tick are
+     * sent together, only keeping the latest value of each entry. Using {@code null}
+     * makes it undefined and scoreboard team prefix/suffix will be visible instead.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   displayName
+     *          New display name
+     */
+    public synchronized void queueDisplayName(@NonNull UUID entry, @Nullable TabComponent displayName) {
+        PendingChange change = getPendingChange(entry);
+        change.displayNameChanged = true;
+        change.displayName = displayName;
+    }
+
+    /**
+     * Queues latency change of an entry. All changes queued within one tick are
+     * sent together, only keeping the latest value of each entry.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   latency
+     *          New latency
+     */
+    public synchronized void queueLatency(@NonNull UUID entry, int latency) {
+        getPendingChange(entry).latency = latency;
+    }
+
+    /**
+     * Queues game mode change of an entry. All changes queued within one tick are
+     * sent together, only keeping the latest value of each entry.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   gameMode
+     *          New game mode
+     */
+    public synchronized void queueGameMode(@NonNull UUID entry, int gameMode) {
+        getPendingChange(entry).gameMode = gameMode;
+    }
+
+    /**
+     * Queues listed flag change of an entry (1.19.3+). All changes queued within
+     * one tick are sent together, only keeping the latest value of each entry.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   listed
+     *          New listed flag
+     */
+    public synchronized void queueListed(@NonNull UUID entry, boolean listed) {
+        getPendingChange(entry).listed = listed;
+    }
+
+    @NotNull
+    private PendingChange getPendingChange(@NonNull UUID entry) {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            TAB.getInstance().getCPUManager().runTaskLater(FLUSH_DELAY, "TabList", TabConstants.CpuUsageCategory.TABLIST_FLUSH, this::flush);
+        }
+        return pendingChanges.computeIfAbsent(entry, id -> new PendingChange());
+    }
+
+    private synchronized void discardPendingChanges(@NonNull UUID entry) {
+        pendingChanges.remove(entry);
+    }
+
+    /**
+     * Discards queued value of specified action of an entry, so a value
+     * queued before a direct update does not overwrite it once sent.
+     *
+     * @param   entry
+     *          Entry to discard queued value of
+     * @param   action
+     *          Action to discard queued value of
+     */
+    private synchronized void discardPendingChange(@NonNull UUID entry, @NonNull Action action) {
+        PendingChange change = pendingChanges.get(entry);
+        if (change == null) return;
+        switch (action) {
+            case UPDATE_DISPLAY_NAME:
+                change.displayNameChanged = false;
+                change.displayName = null;
+                break;
+            case UPDATE_LATENCY:
+                change.latency = null;
+                break;
+            case UPDATE_GAME_MODE:
+                change.gameMode = null;
+                break;
+            case UPDATE_LISTED:
+                change.listed = null;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Sends all queued changes, grouping them by action, so each action
+     * is sent as a single packet on platforms which support it.
+     */
+    public void flush() {
+        Map<UUID, PendingChange> changes;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pendingChanges.isEmpty()) return;
+            changes = pendingChanges;
+            pendingChanges = new LinkedHashMap<>();
+        }
+        if (!player.isOnline()) return;
+        List<Entry> displayNames = new ArrayList<>();
+        List<Entry> latencies = new ArrayList<>();
+        List<Entry> gameModes = new ArrayList<>();
+        List<Entry> listedFlags = new ArrayList<>();
+        for (Map.Entry<UUID, PendingChange> entry : changes.entrySet()) {
+            UUID id = entry.getKey();
+            PendingChange change = entry.getValue();
+            if (change.displayNameChanged) displayNames.add(Entry.displayName(id, change.displayName));
+            if (change.latency != null) latencies.add(Entry.latency(id, change.latency));
+            if (change.gameMode != null) gameModes.add(Entry.gameMode(id, change.gameMode));
+            if (change.listed != null) listedFlags.add(Entry.listed(id, change.listed));
+        }
+        // Sent using *0 methods, public variants would also discard values queued while this flush is running
+        if (!displayNames.isEmpty()) sendDisplayNames(displayNames);
+        if (!latencies.isEmpty()) updateLatencies0(latencies);
+        if (!gameModes.isEmpty()) updateGameModes0(gameModes);
+        if (!listedFlags.isEmpty()) updateListedFlags0(listedFlags);
+    }
+
     /**
      * Sets header and footer to specified values.
      *
@@ -133,6 +480,19 @@ public abstract class TabList<P extends TabPlayer, C> {
         // Empty by default, overridden by Bukkit, BungeeCord and Fabric
     }
 
+    /**
+     * Returns {@code true} if packets of given class may need to be processed
+     * by {@link #onPacketSend(Object)}, {@code false} if they can be skipped.
+     * The result must only depend on the class and is cached by pipeline injection.
+     *
+     * @param   packetClass
+     *          Class of the packet
+     * @return  {@code true} if packet class is processed, {@code false} if not
+     */
+    public boolean isHandledPacket(@NonNull Class<?> packetClass) {
+        return true; // Unknown by default, overridden by platforms with pipeline injection
+    }
+
     /**
      * Sends a debug message when display name is not as expected.
      *
@@ -146,20 +506,40 @@ public abstract class TabList<P extends TabPlayer, C> {
                 "for viewer " + viewer.getName() + " than expected, fixing.");
     }
 
-    private void setExpectedDisplayName(@NonNull UUID entry, @Nullable C displayName) {
+    private void setExpectedDisplayName(@NonNull UUID entry, @Nullable TabComponent displayName) {
         if (!antiOverride) return;
+        TabComponent shared;
         TabPlayer player = TAB.getInstance().getPlayerByTabListUUID(entry);
-        if (player != null) expectedDisplayNames.put(player, displayName);
-
-        if (redisSupport != null) {
-            RedisPlayer redisPlayer = redisSupport.getRedisPlayers().get(entry);
-            if (redisPlayer != null) expectedRedisDisplayNames.put(redisPlayer, displayName);
+        if (player != null) {
+            shared = player.expectedTabFormat;
+        } else {
+            RedisPlayer redisPlayer = redisSupport == null ? null : redisSupport.getRedisPlayers().get(entry);
+            if (redisPlayer == null) return; // Not a player (layout slot, another plugin's fake entry)
+            shared = redisPlayer.getTabFormat();
         }
+        if (displayName == shared) {
+            expectedDisplayNameOverrides.remove(entry);
+        } else {
+            expectedDisplayNameOverrides.put(entry, displayName == null ? NO_DISPLAY_NAME : displayName);
+        }
+    }
+
+    /**
+     * Forgets expected display name of specified entry for this viewer. Called
+     * when the player behind the entry leaves so overrides do not pile up.
+     *
+     * @param   entry
+     *          UUID of tablist entry
+     */
+    public void removeExpectedDisplayName(@NonNull UUID entry) {
+        expectedDisplayNameOverrides.remove(entry);
     }
 
     /**
      * Returns expected display name for specified UUID. If nothing is found,
-     * {@code null} is returned.
+     * {@code null} is returned. Components are converted from the shared value
+     * of the target, which caches the result per protocol bucket, so all viewers
+     * on the same protocol bucket get the same instance.
      *
      * @param   id
      *          UUID of tablist entry
@@ -168,24 +548,22 @@ public abstract class TabList<P extends TabPlayer, C> {
     @Nullable
     public C getExpectedDisplayName(@NotNull UUID id) {
         if (!antiOverride) return null;
-
-        TabPlayer player = TAB.getInstance().getPlayerByTabListUUID(id);
-        if (player != null && expectedDisplayNames.containsKey(player)) {
-            return expectedDisplayNames.get(player);
-        }
-
-        if (redisSupport != null) {
-            RedisPlayer redisPlayer = redisSupport.getRedisPlayers().get(id);
-            if (redisPlayer != null && expectedRedisDisplayNames.containsKey(redisPlayer)) {
-                return expectedRedisDisplayNames.get(redisPlayer);
+        TabComponent expected = expectedDisplayNameOverrides.get(id);
+        if (expected == null) {
+            TabPlayer player = TAB.getInstance().getPlayerByTabListUUID(id);
+            if (player != null) {
+                expected = player.expectedTabFormat;
+            } else if (redisSupport != null) {
+                RedisPlayer redisPlayer = redisSupport.getRedisPlayers().get(id);
+                if (redisPlayer != null) expected = redisPlayer.getTabFormat();
             }
         }
-        return null;
+        return expected == null || expected == NO_DISPLAY_NAME ? null : toComponent(expected);
     }
 
     @Nullable
     protected C getExpectedDisplayName(@NonNull TabPlayer player) {
-        return expectedDisplayNames.get(player);
+        return getExpectedDisplayName(player.getTablistId());
     }
 
     /**
@@ -200,12 +578,12 @@ public abstract class TabList<P extends TabPlayer, C> {
     }
 
     /**
-     * Removes entry from the TabList.
+     * Removes entry from the TabList without discarding queued changes.
      *
      * @param   entry
      *          Entry to remove
      */
-    public abstract void removeEntry(@NonNull UUID entry);
+    public abstract void removeEntry0(@NonNull UUID entry);
 
     /**
      * Updates display name of an entry. Using {@code null} makes it undefined and
@@ -219,34 +597,34 @@ public abstract class TabList<P extends TabPlayer, C> {
     public abstract void updateDisplayName0(@NonNull UUID entry, @Nullable C displayName);
 
     /**
-     * Updates latency of specified entry.
+     * Updates latency of specified entry without discarding queued changes.
      *
      * @param   entry
      *          Entry to update
      * @param   latency
      *          New latency
      */
-    public abstract void updateLatency(@NonNull UUID entry, int latency);
+    public abstract void updateLatency0(@NonNull UUID entry, int latency);
 
     /**
-     * Updates game mode of specified entry.
+     * Updates game mode of specified entry without discarding queued changes.
      *
      * @param   entry
      *          Entry to update
      * @param   gameMode
      *          New game mode
      */
-    public abstract void updateGameMode(@NonNull UUID entry, int gameMode);
+    public abstract void updateGameMode0(@NonNull UUID entry, int gameMode);
 
     /**
-     * Updates listed flag of specified entry (1.19.3+).
+     * Updates listed flag of specified entry (1.19.3+) without discarding queued changes.
      *
      * @param   entry
      *          Entry to update
      * @param   listed
      *          New listed flag
      */
-    public abstract void updateListed(@NonNull UUID entry, boolean listed);
+    public abstract void updateListed0(@NonNull UUID entry, boolean listed);
 
     /**
      * Adds specified entry to tablist
@@ -390,6 +768,40 @@ public abstract class TabList<P extends TabPlayer, C> {
         public static Entry gameMode(@NonNull UUID id, int gameMode) {
             return new Entry(id, "", null, false, 0, gameMode, null);
         }
+
+        /**
+         * Creates new instance with given listed flag.
+         *
+         * @param   id
+         *          Entry ID
+         * @param   listed
+         *          Entry listed flag
+         * @return  Entry with given parameters
+         */
+        public static Entry listed(@NonNull UUID id, boolean listed) {
+            return new Entry(id, "", null, listed, 0, 0, null);
+        }
+    }
+
+    /**
+     * Latest queued values of a single entry, {@code null} for values which did not change.
+     */
+    private static class PendingChange {
+
+        /** Whether display name was queued or not, since {@code null} display name is a valid value */
+        private boolean displayNameChanged;
+
+        /** Queued display name */
+        @Nullable private TabComponent displayName;
+
+        /** Queued latency */
+        @Nullable private Integer latency;
+
+        /** Queued game mode */
+        @Nullable private Integer gameMode;
+
+        /** Queued listed flag */
+        @Nullable private Boolean listed;
     }
 
     /**
@@ -121,6 +121,12 @@ public abstract class TabPlayer implements me.neznamy.tab.api.TabPlayer {
     /** Whether player has disabled playerlist objective or not */
     public final AtomicBoolean disabledYellowNumber = new AtomicBoolean();
 
+    /**
+     * Tablist display name of this player expected to be seen by all viewers, used by anti-override.
+     * Viewers seeing a different value (such as relational formats) store it in their own TabList.
+     */
+    @Nullable public volatile TabComponent expectedTabFormat;
+
     /**
      * Constructs new instance with given parameters
      *
@@ -240,9 +246,10 @@ public abstract class TabPlayer implements me.neznamy.tab.api.TabPlayer {
 
     @Override
     public void setExpectedProfileName(@NonNull String profileName) {
+        String oldName = nickname;
         nickname = profileName;
         NickCompatibility nick = TAB.getInstance().getFeatureManager().getFeature(TabConstants.Feature.NICK_COMPATIBILITY);
-        nick.processNameChange(this);
+        nick.processNameChange(this, oldName);
     }
 
     @Override
@@ -315,15 +322,15 @@ public abstract class TabPlayer implements me.neznamy.tab.api.TabPlayer {
      * @return  {@code true} if value did not exist or changed, {@code false} otherwise
      */
     public boolean loadPropertyFromConfig(@Nullable Refreshable feature, @NotNull String property, @NotNull String ifNotSet) {
-        String[] value = TAB.getInstance().getConfiguration().getUsers().getProperty(name, property, server, world);
-        if (value.length == 0) {
+        List<String> value = TAB.getInstance().getConfiguration().getUsers().getProperty(name, property, server, world);
+        if (value.isEmpty()) {
             value = TAB.getInstance().getConfiguration().getUsers().getProperty(uniqueId.toString(), property, server, world);
         }
-        if (value.length == 0) {
+        if (value.isEmpty()) {
             value = TAB.getInstance().getConfiguration().getGroups().getProperty(getGroup(), property, server, world);
         }
-        if (value.length > 0) {
-            return setProperty(feature, property, value[0], value[1], true);
+        if (!value.isEmpty()) {
+            return setProperty(feature, property, value.get(0), value.get(1), true);
         }
         return setProperty(feature, property, ifNotSet, "None", true);
     }
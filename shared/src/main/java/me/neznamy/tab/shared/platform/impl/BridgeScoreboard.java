@@ -74,6 +74,11 @@ public class BridgeScoreboard extends Scoreboard<ProxyTabPlayer, Component> {
                 visibility.toString(), collision.toString(), color.ordinal(), null));
     }
 
+    @Override
+    protected void changeTeamMember0(@NonNull String name, int action, @NonNull String member) {
+        // Not supported by bridge, supportsTeamMemberChanges() returns false
+    }
+
     @Override
     public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
                           @Nullable Component displayName, @Nullable Component numberFormat) {
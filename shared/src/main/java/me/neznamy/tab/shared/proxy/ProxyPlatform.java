@@ -18,6 +18,7 @@ import me.neznamy.tab.shared.placeholders.UniversalPlaceholderRegistry;
 import me.neznamy.tab.shared.proxy.features.unlimitedtags.ProxyNameTagX;
 import me.neznamy.tab.shared.proxy.message.incoming.*;
 import me.neznamy.tab.shared.proxy.message.outgoing.RegisterPlaceholder;
+import me.neznamy.tab.shared.proxy.message.outgoing.UnregisterPlaceholder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,6 +41,9 @@ public abstract class ProxyPlatform implements Platform {
     /** Placeholders which are refreshed on backend server */
     private final Map<String, Integer> bridgePlaceholders = new ConcurrentHashMap<>();
 
+    /** Bridge placeholders no longer used by any feature, which backend servers were told to stop refreshing */
+    private final Map<String, Integer> unsubscribedBridgePlaceholders = new ConcurrentHashMap<>();
+
     /**
      * Constructs new instance.
      */
@@ -62,7 +66,8 @@ public abstract class ProxyPlatform implements Platform {
     public @NotNull GroupManager detectPermissionPlugin() {
         if (LuckPermsHook.getInstance().isInstalled() &&
                 !TAB.getInstance().getConfiguration().isBukkitPermissions()) {
-            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction());
+            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction(),
+                    LuckPermsHook.getInstance()::subscribeGroupChanges);
         }
         return new GroupManager("Vault through Bridge", TabPlayer::getGroup);
     }
@@ -95,6 +100,40 @@ public abstract class ProxyPlatform implements Platform {
         }
     }
 
+    /**
+     * Tells backend servers to stop refreshing bridge placeholder, because no feature
+     * uses it anymore. It is no longer sent on server switch either. Does nothing
+     * if placeholder is not a bridge placeholder.
+     *
+     * @param   identifier
+     *          Placeholder identifier
+     */
+    public void unsubscribeBridgePlaceholder(@NotNull String identifier) {
+        Integer refresh = bridgePlaceholders.remove(identifier);
+        if (refresh == null) return;
+        unsubscribedBridgePlaceholders.put(identifier, refresh);
+        for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
+            ((ProxyTabPlayer)all).sendPluginMessage(new UnregisterPlaceholder(identifier));
+        }
+    }
+
+    /**
+     * Tells backend servers to start refreshing previously unsubscribed bridge
+     * placeholder again, because a feature uses it again. Does nothing if
+     * placeholder was not unsubscribed.
+     *
+     * @param   identifier
+     *          Placeholder identifier
+     */
+    public void subscribeBridgePlaceholder(@NotNull String identifier) {
+        Integer refresh = unsubscribedBridgePlaceholders.remove(identifier);
+        if (refresh == null) return;
+        bridgePlaceholders.put(identifier, refresh);
+        for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
+            ((ProxyTabPlayer)all).sendPluginMessage(new RegisterPlaceholder(identifier, refresh));
+        }
+    }
+
     @Override
     public void registerPlaceholders() {
         TAB.getInstance().getPlaceholderManager().registerServerPlaceholder(TabConstants.Placeholder.TPS, -1,
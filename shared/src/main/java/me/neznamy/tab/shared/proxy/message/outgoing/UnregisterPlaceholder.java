@@ -0,0 +1,22 @@
+package me.neznamy.tab.shared.proxy.message.outgoing;
+
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import lombok.AllArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+@AllArgsConstructor
+@SuppressWarnings("UnstableApiUsage")
+public class UnregisterPlaceholder implements OutgoingMessage {
+
+    private String identifier;
+
+    @Override
+    @NotNull
+    public ByteArrayDataOutput write() {
+        ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        out.writeUTF("UnregisterPlaceholder");
+        out.writeUTF(identifier);
+        return out;
+    }
+}
@@ -6,13 +6,16 @@ import me.neznamy.tab.shared.ProtocolVersion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.BiFunction;
 
 /**
  * Component cache to save resources when converting the same
- * values over and over.
+ * values over and over. Values are kept separately for clients
+ * with and without RGB support. When the cache is full, the least
+ * recently used value is evicted, so frequently used values
+ * survive a burst of one-off values.
  *
  * @param   <K>
  *          Source component
@@ -24,8 +27,8 @@ public class ComponentCache<K, V> {
 
     private final int cacheSize;
     private final BiFunction<K, ProtocolVersion, V> function;
-    private final Map<K, V> cacheModern = new HashMap<>();
-    private final Map<K, V> cacheLegacy = new HashMap<>();
+    private final Map<K, V> cacheModern = createMap();
+    private final Map<K, V> cacheLegacy = createMap();
 
     /**
      * Gets value from cache. If not present, it is created using given function, inserted
@@ -40,7 +43,26 @@ public class ComponentCache<K, V> {
     @SneakyThrows
     public @NotNull V get(@NotNull K key, @Nullable ProtocolVersion clientVersion) {
         Map<K, V> cache = clientVersion == null || clientVersion.supportsRGB() ? cacheModern : cacheLegacy;
-        if (cache.size() > cacheSize) cache.clear();
-        return cache.computeIfAbsent(key, k -> function.apply(k, clientVersion));
+        synchronized (cache) {
+            V value = cache.get(key);
+            if (value != null) return value;
+        }
+        // Computed outside of lock, so slow conversions do not block other threads
+        V value = function.apply(key, clientVersion);
+        synchronized (cache) {
+            V previous = cache.putIfAbsent(key, value);
+            return previous != null ? previous : value;
+        }
+    }
+
+    @NotNull
+    private Map<K, V> createMap() {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > cacheSize;
+            }
+        };
     }
 }
@@ -0,0 +1,34 @@
+package me.neznamy.tab.shared.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Pool of canonical instances of team names, objective names and score holders.
+ * These names are rebuilt as new strings on every sorting update, while each of them
+ * is stored in scoreboard bookkeeping of every viewer. Pooling makes each name exist
+ * only once in memory and lets equality checks between pooled names succeed on the
+ * identity check without comparing characters. Names no longer referenced anywhere
+ * are garbage collected.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class NamePool {
+
+    /** Canonical instances, weakly referenced */
+    private static final Interner<String> names = Interners.newWeakInterner();
+
+    /**
+     * Returns canonical instance of given name.
+     *
+     * @param   name
+     *          Name to get canonical instance of
+     * @return  Canonical instance equal to given name
+     */
+    @NotNull
+    public static String intern(@NotNull String name) {
+        return names.intern(name);
+    }
+}
@@ -138,6 +138,22 @@ public class SpongeScoreboard extends Scoreboard<SpongeTabPlayer, Text> {
         });
     }
 
+    @Override
+    public boolean supportsTeamMemberChanges() {
+        return true;
+    }
+
+    @Override
+    public void changeTeamMember0(@NonNull String name, int action, @NonNull String member) {
+        sb.getTeam(name).ifPresent(team -> {
+            if (action == TeamAction.ADD_PLAYER) {
+                team.addMember(Text.of(member));
+            } else {
+                team.removeMember(Text.of(member));
+            }
+        });
+    }
+
     @Override
     public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
                           @Nullable Text displayName, @Nullable Text numberFormat) {
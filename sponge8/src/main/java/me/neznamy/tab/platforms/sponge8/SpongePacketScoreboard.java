@@ -0,0 +1,398 @@
+package me.neznamy.tab.platforms.sponge8;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.platform.Scoreboard;
+import me.neznamy.tab.shared.util.ComponentCache;
+import me.neznamy.tab.shared.util.ReflectionUtils;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Scoreboard implementation for Sponge 8 and up which sends packets directly
+ * through player's connection instead of creating a server-side scoreboard
+ * with API teams and objectives for every player. Relies on Mojang mapped
+ * server classes, which are only available on SpongeVanilla. If anything
+ * fails to load, or packets cannot be sent to a specific player (such as fake
+ * players without a connection), {@link SpongeScoreboard} is used instead.
+ */
+public class SpongePacketScoreboard extends Scoreboard<SpongeTabPlayer, Component> {
+
+    /** Whether all required classes, fields and methods were found or not */
+    @Getter
+    private static boolean available;
+
+    /** Exception thrown when loading, {@code null} if loaded successfully */
+    @Getter
+    @Nullable
+    private static Exception exception;
+
+    /** Scoreboard teams and objectives are created in, never sent to anyone */
+    private static Object emptyScoreboard;
+
+    // Connection
+    private static Field ServerPlayer_connection;
+    private static Method Connection_send;
+    private static Method SpongeAdventure_asVanilla;
+
+    /** Vanilla components converted from the same text component, shared by all players with the same RGB support */
+    private static final ComponentCache<TabComponent, Object> vanillaCache = new ComponentCache<>(1000,
+            (component, version) -> asVanilla(component.convert(version)));
+
+    // Objectives
+    private static Constructor<?> newObjective;
+    private static Object ObjectiveCriteria_DUMMY;
+    private static Object[] renderTypes;
+    private static Method Objective_setDisplayName;
+    private static Method Objective_setRenderType;
+    private static Method Objective_setNumberFormat;
+    private static Constructor<?> newObjectivePacket;
+    private static Constructor<?> newDisplayPacket;
+    private static Object[] displaySlots;
+
+    // Teams
+    private static Constructor<?> newPlayerTeam;
+    private static Method PlayerTeam_getPlayers;
+    private static Method PlayerTeam_setPlayerPrefix;
+    private static Method PlayerTeam_setPlayerSuffix;
+    private static Method PlayerTeam_setColor;
+    private static Method PlayerTeam_setAllowFriendlyFire;
+    private static Method PlayerTeam_setSeeFriendlyInvisibles;
+    private static Method PlayerTeam_setNameTagVisibility;
+    private static Method PlayerTeam_setCollisionRule;
+    private static Object[] chatFormats;
+    private static Object[] visibilities;
+    private static Object[] collisionRules;
+    private static Method TeamPacket_createAddOrModifyPacket;
+    private static Method TeamPacket_createRemovePacket;
+    private static Constructor<?> newTeamPacket;
+    private static Method TeamPacket_createPlayerPacket;
+    private static Object[] teamPacketActions;
+    private static Constructor<?> newTeamMemberPacket;
+
+    // Scores
+    private static Constructor<?> newScorePacket;
+    private static Object[] scoreActions;
+    private static Constructor<?> newResetScorePacket;
+    private static Constructor<?> newFixedFormat;
+
+    /** Objectives registered to the player, required for updating and display slot packets */
+    private final Map<String, Object> objectives = new HashMap<>();
+
+    static {
+        try {
+            Class<?> serverPlayer = Class.forName("net.minecraft.server.level.ServerPlayer");
+            Class<?> packet = Class.forName("net.minecraft.network.protocol.Packet");
+            Class<?> component = Class.forName("net.minecraft.network.chat.Component");
+            Class<?> scoreboard = Class.forName("net.minecraft.world.scores.Scoreboard");
+            Class<?> objective = Class.forName("net.minecraft.world.scores.Objective");
+            Class<?> criteria = Class.forName("net.minecraft.world.scores.criteria.ObjectiveCriteria");
+            Class<?> renderType = Class.forName("net.minecraft.world.scores.criteria.ObjectiveCriteria$RenderType");
+            Class<?> playerTeam = Class.forName("net.minecraft.world.scores.PlayerTeam");
+            Class<?> chatFormatting = Class.forName("net.minecraft.ChatFormatting");
+            Class<?> visibility = Class.forName("net.minecraft.world.scores.Team$Visibility");
+            Class<?> collisionRule = Class.forName("net.minecraft.world.scores.Team$CollisionRule");
+            Class<?> objectivePacket = Class.forName("net.minecraft.network.protocol.game.ClientboundSetObjectivePacket");
+            Class<?> displayPacket = Class.forName("net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket");
+            Class<?> teamPacket = Class.forName("net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket");
+            Class<?> scorePacket = Class.forName("net.minecraft.network.protocol.game.ClientboundSetScorePacket");
+
+            ServerPlayer_connection = serverPlayer.getField("connection");
+            Connection_send = ServerPlayer_connection.getType().getMethod("send", packet);
+            SpongeAdventure_asVanilla = Class.forName("org.spongepowered.common.adventure.SpongeAdventure")
+                    .getMethod("asVanilla", Component.class);
+
+            emptyScoreboard = scoreboard.getConstructor().newInstance();
+            ObjectiveCriteria_DUMMY = criteria.getField("DUMMY").get(null);
+            renderTypes = renderType.getEnumConstants();
+            Objective_setDisplayName = objective.getMethod("setDisplayName", component);
+            Objective_setRenderType = objective.getMethod("setRenderType", renderType);
+            newObjectivePacket = objectivePacket.getConstructor(objective, int.class);
+            if (ReflectionUtils.classExists("net.minecraft.network.chat.numbers.NumberFormat")) {
+                // 1.20.3+
+                Class<?> numberFormat = Class.forName("net.minecraft.network.chat.numbers.NumberFormat");
+                newFixedFormat = Class.forName("net.minecraft.network.chat.numbers.FixedFormat").getConstructor(component);
+                newObjective = objective.getConstructor(scoreboard, String.class, criteria, component, renderType, boolean.class, numberFormat);
+                Objective_setNumberFormat = objective.getMethod("setNumberFormat", numberFormat);
+                newResetScorePacket = Class.forName("net.minecraft.network.protocol.game.ClientboundResetScorePacket")
+                        .getConstructor(String.class, String.class);
+                newScorePacket = getScorePacketConstructor(scorePacket, component, numberFormat);
+            } else {
+                newObjective = objective.getConstructor(scoreboard, String.class, criteria, component, renderType);
+                Class<?> method = Class.forName("net.minecraft.server.ServerScoreboard$Method");
+                scoreActions = method.getEnumConstants();
+                newScorePacket = scorePacket.getConstructor(method, String.class, String.class, int.class);
+            }
+            if (ReflectionUtils.classExists("net.minecraft.world.scores.DisplaySlot")) {
+                // 1.20.2+
+                Class<?> displaySlot = Class.forName("net.minecraft.world.scores.DisplaySlot");
+                displaySlots = displaySlot.getEnumConstants();
+                newDisplayPacket = displayPacket.getConstructor(displaySlot, objective);
+            } else {
+                newDisplayPacket = displayPacket.getConstructor(int.class, objective);
+            }
+
+            newPlayerTeam = playerTeam.getConstructor(scoreboard, String.class);
+            PlayerTeam_getPlayers = playerTeam.getMethod("getPlayers");
+            PlayerTeam_setPlayerPrefix = playerTeam.getMethod("setPlayerPrefix", component);
+            PlayerTeam_setPlayerSuffix = playerTeam.getMethod("setPlayerSuffix", component);
+            PlayerTeam_setColor = playerTeam.getMethod("setColor", chatFormatting);
+            PlayerTeam_setAllowFriendlyFire = playerTeam.getMethod("setAllowFriendlyFire", boolean.class);
+            PlayerTeam_setSeeFriendlyInvisibles = playerTeam.getMethod("setSeeFriendlyInvisibles", boolean.class);
+            PlayerTeam_setNameTagVisibility = playerTeam.getMethod("setNameTagVisibility", visibility);
+            PlayerTeam_setCollisionRule = playerTeam.getMethod("setCollisionRule", collisionRule);
+            chatFormats = toVanilla(chatFormatting, EnumChatFormat.VALUES);
+            visibilities = toVanilla(visibility, NameVisibility.values());
+            collisionRules = toVanilla(collisionRule, CollisionRule.values());
+            if (ReflectionUtils.methodExists(teamPacket, "createAddOrModifyPacket", playerTeam, boolean.class)) {
+                // 1.17+
+                TeamPacket_createAddOrModifyPacket = teamPacket.getMethod("createAddOrModifyPacket", playerTeam, boolean.class);
+                TeamPacket_createRemovePacket = teamPacket.getMethod("createRemovePacket", playerTeam);
+                Class<?> teamPacketAction = Class.forName("net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket$Action");
+                TeamPacket_createPlayerPacket = teamPacket.getMethod("createPlayerPacket", playerTeam, String.class, teamPacketAction);
+                teamPacketActions = teamPacketAction.getEnumConstants();
+            } else {
+                newTeamPacket = teamPacket.getConstructor(playerTeam, int.class);
+                newTeamMemberPacket = teamPacket.getConstructor(playerTeam, Collection.class, int.class);
+            }
+            available = true;
+        } catch (Exception e) {
+            exception = e;
+        }
+    }
+
+    /**
+     * Constructs new instance with given player.
+     *
+     * @param   player
+     *          Player this scoreboard will belong to
+     */
+    public SpongePacketScoreboard(@NonNull SpongeTabPlayer player) {
+        super(player);
+    }
+
+    /**
+     * Returns {@code true} if packets can be sent to specified player, {@code false} if not.
+     * This is the case if everything loaded and the player has a vanilla connection.
+     *
+     * @param   player
+     *          Player to check
+     * @return  {@code true} if packet scoreboard can be used for the player, {@code false} if not
+     */
+    public static boolean isAvailable(@NonNull SpongeTabPlayer player) {
+        if (!available) return false;
+        try {
+            return ServerPlayer_connection.get(player.getPlayer()) != null;
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public void setDisplaySlot0(int slot, @NonNull String objective) {
+        Object obj = objectives.get(objective);
+        if (obj == null) return;
+        sendPacket(newDisplayPacket.newInstance(displaySlots == null ? slot : displaySlots[slot], obj));
+    }
+
+    @Override
+    @SneakyThrows
+    public void registerObjective0(@NonNull String objectiveName, @NonNull String title, int display,
+                                   @Nullable Component numberFormat) {
+        Object obj;
+        if (newFixedFormat != null) {
+            obj = newObjective.newInstance(emptyScoreboard, objectiveName, ObjectiveCriteria_DUMMY, vanilla(title),
+                    renderTypes[display], false, numberFormat(numberFormat));
+        } else {
+            obj = newObjective.newInstance(emptyScoreboard, objectiveName, ObjectiveCriteria_DUMMY, vanilla(title),
+                    renderTypes[display]);
+        }
+        objectives.put(objectiveName, obj);
+        sendPacket(newObjectivePacket.newInstance(obj, ObjectiveAction.REGISTER));
+    }
+
+    @Override
+    @SneakyThrows
+    public void unregisterObjective0(@NonNull String objectiveName) {
+        Object obj = objectives.remove(objectiveName);
+        if (obj == null) return;
+        sendPacket(newObjectivePacket.newInstance(obj, ObjectiveAction.UNREGISTER));
+    }
+
+    @Override
+    @SneakyThrows
+    public void updateObjective0(@NonNull String objectiveName, @NonNull String title, int display,
+                                 @Nullable Component numberFormat) {
+        Object obj = objectives.get(objectiveName);
+        if (obj == null) return;
+        Objective_setDisplayName.invoke(obj, vanilla(title));
+        Objective_setRenderType.invoke(obj, renderTypes[display]);
+        if (Objective_setNumberFormat != null) Objective_setNumberFormat.invoke(obj, numberFormat(numberFormat));
+        sendPacket(newObjectivePacket.newInstance(obj, ObjectiveAction.UPDATE));
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public void registerTeam0(@NonNull String name, @NonNull String prefix, @NonNull String suffix,
+                              @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
+                              @NonNull Collection<String> players, int options, @NonNull EnumChatFormat color) {
+        Object team = createTeam(name, prefix, suffix, visibility, collision, options, color);
+        ((Collection<String>) PlayerTeam_getPlayers.invoke(team)).addAll(players);
+        sendPacket(TeamPacket_createAddOrModifyPacket != null ?
+                TeamPacket_createAddOrModifyPacket.invoke(null, team, true) :
+                newTeamPacket.newInstance(team, TeamAction.CREATE));
+    }
+
+    @Override
+    @SneakyThrows
+    public void unregisterTeam0(@NonNull String name) {
+        Object team = newPlayerTeam.newInstance(emptyScoreboard, name);
+        sendPacket(TeamPacket_createRemovePacket != null ?
+                TeamPacket_createRemovePacket.invoke(null, team) :
+                newTeamPacket.newInstance(team, TeamAction.REMOVE));
+    }
+
+    @Override
+    @SneakyThrows
+    public void updateTeam0(@NonNull String name, @NonNull String prefix, @NonNull String suffix,
+                            @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
+                            int options, @NonNull EnumChatFormat color) {
+        Object team = createTeam(name, prefix, suffix, visibility, collision, options, color);
+        sendPacket(TeamPacket_createAddOrModifyPacket != null ?
+                TeamPacket_createAddOrModifyPacket.invoke(null, team, false) :
+                newTeamPacket.newInstance(team, TeamAction.UPDATE));
+    }
+
+    @Override
+    public boolean supportsTeamMemberChanges() {
+        return true;
+    }
+
+    @Override
+    @SneakyThrows
+    public void changeTeamMember0(@NonNull String name, int action, @NonNull String member) {
+        Object team = newPlayerTeam.newInstance(emptyScoreboard, name);
+        sendPacket(TeamPacket_createPlayerPacket != null ?
+                TeamPacket_createPlayerPacket.invoke(null, team, member, teamPacketActions[action == TeamAction.ADD_PLAYER ? 0 : 1]) :
+                newTeamMemberPacket.newInstance(team, Collections.singletonList(member), action));
+    }
+
+    @Override
+    @SneakyThrows
+    public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
+                          @Nullable Component displayName, @Nullable Component numberFormat) {
+        if (scoreActions != null) {
+            // 1.20.2-
+            sendPacket(newScorePacket.newInstance(scoreActions[ScoreAction.CHANGE], objective, scoreHolder, score));
+            return;
+        }
+        Object vanillaDisplayName = displayName == null ? null : SpongeAdventure_asVanilla.invoke(null, displayName);
+        Object format = numberFormat(numberFormat);
+        if (newScorePacket.getParameterTypes()[3] == Optional.class) {
+            // 1.20.5+
+            sendPacket(newScorePacket.newInstance(scoreHolder, objective, score,
+                    Optional.ofNullable(vanillaDisplayName), Optional.ofNullable(format)));
+        } else {
+            sendPacket(newScorePacket.newInstance(scoreHolder, objective, score, vanillaDisplayName, format));
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public void removeScore0(@NonNull String objective, @NonNull String scoreHolder) {
+        if (scoreActions != null) {
+            // 1.20.2-
+            sendPacket(newScorePacket.newInstance(scoreActions[ScoreAction.REMOVE], objective, scoreHolder, 0));
+        } else {
+            sendPacket(newResetScorePacket.newInstance(scoreHolder, objective));
+        }
+    }
+
+    @NotNull
+    private static Constructor<?> getScorePacketConstructor(@NotNull Class<?> scorePacket, @NotNull Class<?> component,
+                                                            @NotNull Class<?> numberFormat) throws NoSuchMethodException {
+        try {
+            // 1.20.3 - 1.20.4
+            return scorePacket.getConstructor(String.class, String.class, int.class, component, numberFormat);
+        } catch (NoSuchMethodException e) {
+            // 1.20.5+
+            return scorePacket.getConstructor(String.class, String.class, int.class, Optional.class, Optional.class);
+        }
+    }
+
+    /**
+     * Finds Minecraft enum constants matching names of given TAB enum constants.
+     *
+     * @param   enumClass
+     *          Minecraft enum class
+     * @param   values
+     *          TAB enum constants
+     * @return  Minecraft enum constants in the same order
+     */
+    @NotNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object[] toVanilla(@NotNull Class<?> enumClass, @NotNull Enum<?>[] values) {
+        Object[] array = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            array[i] = Enum.valueOf((Class<Enum>) enumClass, values[i].name());
+        }
+        return array;
+    }
+
+    @NotNull
+    @SneakyThrows
+    private Object createTeam(@NonNull String name, @NonNull String prefix, @NonNull String suffix,
+                              @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
+                              int options, @NonNull EnumChatFormat color) {
+        Object team = newPlayerTeam.newInstance(emptyScoreboard, name);
+        PlayerTeam_setAllowFriendlyFire.invoke(team, (options & 0x01) != 0);
+        PlayerTeam_setSeeFriendlyInvisibles.invoke(team, (options & 0x02) != 0);
+        PlayerTeam_setColor.invoke(team, chatFormats[color.ordinal()]);
+        PlayerTeam_setCollisionRule.invoke(team, collisionRules[collision.ordinal()]);
+        PlayerTeam_setNameTagVisibility.invoke(team, visibilities[visibility.ordinal()]);
+        PlayerTeam_setPlayerPrefix.invoke(team, vanilla(prefix));
+        PlayerTeam_setPlayerSuffix.invoke(team, vanilla(suffix));
+        return team;
+    }
+
+    @Nullable
+    @SneakyThrows
+    private Object numberFormat(@Nullable Component numberFormat) {
+        if (numberFormat == null || newFixedFormat == null) return null;
+        return newFixedFormat.newInstance(SpongeAdventure_asVanilla.invoke(null, numberFormat));
+    }
+
+    /**
+     * Converts text to Minecraft component.
+     *
+     * @param   text
+     *          Text to convert
+     * @return  Converted text
+     */
+    @NotNull
+    private Object vanilla(@NonNull String text) {
+        return vanillaCache.get(TabComponent.optimized(text), player.getVersion());
+    }
+
+    @NotNull
+    @SneakyThrows
+    private static Object asVanilla(@NotNull Component component) {
+        return SpongeAdventure_asVanilla.invoke(null, component);
+    }
+
+    @SneakyThrows
+    private void sendPacket(@NotNull Object packet) {
+        Connection_send.invoke(ServerPlayer_connection.get(player.getPlayer()), packet);
+    }
+}
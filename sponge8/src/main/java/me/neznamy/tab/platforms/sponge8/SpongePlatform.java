@@ -44,6 +44,10 @@ public class SpongePlatform implements BackendPlatform {
 
     @Override
     public void loadPlayers() {
+        if (!SpongePacketScoreboard.isAvailable()) {
+            TAB.getInstance().debug("Failed to load packet scoreboard (" + SpongePacketScoreboard.getException() +
+                    "), using API scoreboard instead");
+        }
         for (ServerPlayer player : Sponge.server().onlinePlayers()) {
             TAB.getInstance().addPlayer(new SpongeTabPlayer(this, player));
         }
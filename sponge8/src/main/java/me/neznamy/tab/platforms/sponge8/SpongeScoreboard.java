@@ -4,7 +4,6 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TabComponent;
-import me.neznamy.tab.shared.hook.AdventureHook;
 import me.neznamy.tab.shared.platform.Scoreboard;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -146,6 +145,22 @@ public class SpongeScoreboard extends Scoreboard<SpongeTabPlayer, Component> {
         });
     }
 
+    @Override
+    public boolean supportsTeamMemberChanges() {
+        return true;
+    }
+
+    @Override
+    public void changeTeamMember0(@NonNull String name, int action, @NonNull String member) {
+        sb.team(name).ifPresent(team -> {
+            if (action == TeamAction.ADD_PLAYER) {
+                team.addMember(adventure(member));
+            } else {
+                team.removeMember(adventure(member));
+            }
+        });
+    }
+
     @Override
     public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
                           @Nullable Component displayName, @Nullable Component numberFormat) {
@@ -178,6 +193,6 @@ public class SpongeScoreboard extends Scoreboard<SpongeTabPlayer, Component> {
      */
     @NotNull
     private Component adventure(@NonNull String text) {
-        return AdventureHook.toAdventureComponent(TabComponent.optimized(text), player.getVersion().supportsRGB());
+        return TabComponent.optimized(text).convert(player.getVersion());
     }
 }
@@ -13,6 +13,7 @@ import org.spongepowered.api.entity.living.player.tab.TabListEntry;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.property.ProfileProperty;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -36,7 +37,7 @@ public class SpongeTabList extends TabList<SpongeTabPlayer, Component> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         player.getPlayer().tabList().removeEntry(entry);
     }
 
@@ -46,17 +47,17 @@ public class SpongeTabList extends TabList<SpongeTabPlayer, Component> {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         player.getPlayer().tabList().entry(entry).ifPresent(e -> e.setLatency(latency));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         player.getPlayer().tabList().entry(entry).ifPresent(e -> e.setGameMode(gameModes[gameMode]));
     }
 
     @Override
-    public void updateListed(@NonNull UUID entry, boolean listed) {
+    public void updateListed0(@NonNull UUID entry, boolean listed) {
         // TODO
     }
 
@@ -76,6 +77,39 @@ public class SpongeTabList extends TabList<SpongeTabPlayer, Component> {
         player.getPlayer().tabList().addEntry(tabListEntry);
     }
 
+    @Override
+    protected void removeEntries0(@NonNull Collection<UUID> entries) {
+        org.spongepowered.api.entity.living.player.tab.TabList tabList = player.getPlayer().tabList();
+        for (UUID entry : entries) {
+            tabList.removeEntry(entry);
+        }
+    }
+
+    @Override
+    protected void updateLatencies0(@NonNull Collection<Entry> entries) {
+        org.spongepowered.api.entity.living.player.tab.TabList tabList = player.getPlayer().tabList();
+        for (Entry entry : entries) {
+            tabList.entry(entry.getUniqueId()).ifPresent(e -> e.setLatency(entry.getLatency()));
+        }
+    }
+
+    @Override
+    protected void updateGameModes0(@NonNull Collection<Entry> entries) {
+        org.spongepowered.api.entity.living.player.tab.TabList tabList = player.getPlayer().tabList();
+        for (Entry entry : entries) {
+            tabList.entry(entry.getUniqueId()).ifPresent(e -> e.setGameMode(gameModes[entry.getGameMode()]));
+        }
+    }
+
+    @Override
+    protected void updateDisplayNames0(@NonNull Collection<Entry> entries) {
+        org.spongepowered.api.entity.living.player.tab.TabList tabList = player.getPlayer().tabList();
+        for (Entry entry : entries) {
+            Component displayName = entry.getDisplayName() == null ? null : toComponent(entry.getDisplayName());
+            tabList.entry(entry.getUniqueId()).ifPresent(e -> e.setDisplayName(displayName));
+        }
+    }
+
     @Override
     public void setPlayerListHeaderFooter0(@NonNull Component header, @NonNull Component footer) {
         player.getPlayer().tabList().setHeaderAndFooter(header, footer);